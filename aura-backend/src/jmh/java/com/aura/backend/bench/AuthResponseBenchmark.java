@@ -0,0 +1,67 @@
+package com.aura.backend.bench;
+
+import com.aura.backend.auth.dto.AuthResponse;
+import com.aura.backend.security.UserPrincipal;
+import com.aura.backend.user.AuthProvider;
+import com.aura.backend.user.User;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 인증 응답 생성 경로: AuthResponse.from 두 가지, provider 문자열 ↔ enum 왕복, 권한 목록 조회.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthResponseBenchmark {
+
+    private User user;
+    private UserPrincipal principal;
+    private String providerName;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+                .id(42L)
+                .email("member@example.com")
+                .displayName("테스트 사용자")
+                .password("$2a$10$abcdefghijklmnopqrstuuC1b5M8W6yQF0zH7PjvJ0cJvB6aZ1Tq")
+                .provider(AuthProvider.LOCAL)
+                .build();
+        principal = new UserPrincipal(user);
+        providerName = principal.getProvider();
+    }
+
+    @Benchmark
+    public AuthResponse fromUser() {
+        return AuthResponse.from(user);
+    }
+
+    @Benchmark
+    public AuthResponse fromPrincipal() {
+        return AuthResponse.from(principal);
+    }
+
+    @Benchmark
+    public AuthProvider providerRoundTrip() {
+        return AuthProvider.valueOf(providerName);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> principalAuthorities() {
+        return principal.getAuthorities();
+    }
+
+    @Benchmark
+    public UserPrincipal principalFromUser() {
+        return new UserPrincipal(user);
+    }
+}
@@ -0,0 +1,88 @@
+package com.aura.backend.bench;
+
+import com.aura.backend.BackendApplication;
+import com.aura.backend.config.CorsPreflightFilter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+
+/**
+ * 실제 보안 설정으로 띄운 앱에서 요청 한 건이 서블릿 필터와 보안 필터 체인을 통과하는 비용.
+ * fastPath=true면 CORS 프리플라이트를 CorsPreflightFilter가 체인 앞에서 응답하고, false면 보안 체인의 CorsFilter까지 내려간다.
+ * unauthorizedGet은 두 경우 모두 체인 전체를 지나는 일반 요청으로, 비교 기준이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FilterChainBenchmark {
+
+    private static final String ORIGIN = "http://localhost:5173";
+
+    @Param({"true", "false"})
+    private boolean fastPath;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:aura-bench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                                + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.sql.init.mode=never",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "server.port=0",
+                        "logging.level.root=warn",
+                        "aura.cors.preflight-fast-path=" + fastPath)
+                .run();
+
+        DefaultMockMvcBuilder builder = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context);
+        if (fastPath) {
+            // 서블릿 컨테이너에서와 같이 보안 체인보다 앞에 둔다
+            builder.addFilters(context.getBean(CorsPreflightFilter.class));
+        }
+        mockMvc = builder.apply(springSecurity()).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult preflight() throws Exception {
+        return mockMvc.perform(options("/api/notes")
+                        .header("Origin", ORIGIN)
+                        .header("Access-Control-Request-Method", "POST")
+                        .header("Access-Control-Request-Headers", "content-type, authorization"))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult unauthorizedGet() throws Exception {
+        return mockMvc.perform(get("/api/notes").header("Origin", ORIGIN)).andReturn();
+    }
+}
@@ -0,0 +1,73 @@
+package com.aura.backend.bench;
+
+import com.aura.backend.note.Note;
+import com.aura.backend.note.NoteController.NotePageResponse;
+import com.aura.backend.note.NoteCursor;
+import com.aura.backend.note.NoteService.NotePage;
+import com.aura.backend.note.NoteSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 노트 목록 응답 생성 비용: 프로젝션(NoteSummary) 페이지 → NotePageResponse 변환과 JSON 직렬화.
+ * 목록 API가 실제로 거치는 경로이며, size는 한 페이지 크기(최대 MAX_PAGE_SIZE)다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NoteResponseBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int size;
+
+    private NotePage page;
+    private NotePageResponse response;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<NoteSummary> notes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // DB에서 잘라 온 것과 같은 모양이 되도록 엔티티에서 요약을 만든다. 본문이 길어 preview는 잘린 상태다
+            notes.add(NoteSummary.of(Note.builder()
+                    .id((long) i)
+                    .title("시술 메모 " + i)
+                    .content("고객 요청: 애쉬 브라운 염색, 다음 방문 시 뿌리 염색 예정. ".repeat(8))
+                    .createdAt(now.minusMinutes(i))
+                    .build()));
+        }
+        page = new NotePage(notes, NoteCursor.of(notes.getLast()));
+        response = toResponse();
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public NotePageResponse toResponse() {
+        return NotePageResponse.from(page);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] toResponseAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(toResponse());
+    }
+}
@@ -0,0 +1,51 @@
+package com.aura.backend.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt 작업 계수별 해싱/검증 시간. aura.security.password.strength를 정할 때 기준으로 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+public class PasswordHashingBenchmark {
+
+    private static final String RAW_PASSWORD = "password123";
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encoded = encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(RAW_PASSWORD, encoded);
+    }
+}
@@ -0,0 +1,34 @@
+package com.aura.backend.load;
+
+import java.util.Arrays;
+
+/**
+ * 한 스레드 전용 지연 시간 기록기. 스레드마다 따로 쓰고 측정이 끝난 뒤에 합친다.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+
+    void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(samples, size);
+    }
+
+    /**
+     * 정렬된 나노초 배열에서 nearest-rank 백분위를 밀리초로 돌려준다.
+     */
+    static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,25 @@
+package com.aura.backend.load;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * --key=value 형태의 실행 인자를 읽는다.
+ */
+final class LoadTestArgs {
+
+    private LoadTestArgs() {
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return values;
+    }
+}
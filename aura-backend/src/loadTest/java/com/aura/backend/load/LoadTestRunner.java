@@ -0,0 +1,306 @@
+package com.aura.backend.load;
+
+import com.aura.backend.BackendApplication;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 앱을 loadtest 프로필(H2)로 띄우고 인증/노트 API에 섞인 트래픽을 보내 엔드포인트별 처리량과 p50/p95/p99를 측정한다.
+ * 가상 사용자마다 쿠키 저장소(세션 모드) 또는 Bearer 토큰(토큰 모드)을 따로 가진다.
+ *
+ * <pre>
+ * ./gradlew loadTest -PloadTestArgs="--concurrency=200 --duration-seconds=60"
+ * ./gradlew loadTest -PloadTestArgs="--profiles=virtual-threads --output=build/reports/load/vt.json"
+ * ./gradlew loadTest -PloadTestArgs="--base-url=http://localhost:8080"   (이미 떠 있는 서버 대상)
+ * </pre>
+ */
+public final class LoadTestRunner {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String PASSWORD = "load-test-password";
+
+    enum Operation {
+        REGISTER("POST /api/auth/register"),
+        LOGIN("POST /api/auth/login"),
+        ME("GET /api/auth/me"),
+        LIST_NOTES("GET /api/notes"),
+        CREATE_NOTE("POST /api/notes");
+
+        final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+    }
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(LoadTestArgs.parse(args));
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.baseUrl();
+        if (baseUrl == null) {
+            context = startApp(options.extraProfiles());
+            baseUrl = baseUrl(context);
+        }
+
+        try {
+            String report = run(baseUrl, options).toJson();
+            System.out.print(report);
+            if (options.output().getParent() != null) {
+                Files.createDirectories(options.output().getParent());
+            }
+            Files.writeString(options.output(), report);
+            System.out.println("report: " + options.output().toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * loadtest 프로필에 extraProfiles를 더해 임의 포트로 앱을 띄운다. properties는 key=value 형식으로 덮어쓴다.
+     */
+    static ConfigurableApplicationContext startApp(List<String> extraProfiles, String... properties) {
+        List<String> profiles = new ArrayList<>(List.of("loadtest"));
+        profiles.addAll(extraProfiles);
+        List<String> overrides = new ArrayList<>(List.of("server.port=0"));
+        overrides.addAll(List.of(properties));
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .properties(overrides.toArray(String[]::new))
+                .run();
+    }
+
+    static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    static Report run(String baseUrl, Options options) throws Exception {
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long deadline = start + options.duration().toNanos();
+
+        List<Future<WorkerStats>> futures = new ArrayList<>();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                futures.add(workers.submit(() -> new VirtualUser(baseUrl, options).run(measureFrom, deadline)));
+            }
+        }
+
+        Map<Operation, List<long[]>> samples = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+        for (Future<WorkerStats> future : futures) {
+            WorkerStats stats = future.get();
+            stats.latencies().forEach((operation, recorder) ->
+                    samples.computeIfAbsent(operation, key -> new ArrayList<>()).add(recorder.toArray()));
+            stats.errors().forEach((operation, count) -> errors.merge(operation, count, Long::sum));
+        }
+        double seconds = options.duration().minus(options.warmup()).toMillis() / 1000.0;
+        List<EndpointResult> endpoints = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            endpoints.add(EndpointResult.of(operation.label, samples.getOrDefault(operation, List.of()),
+                    errors.getOrDefault(operation, 0L), seconds));
+        }
+        EndpointResult overall = EndpointResult.of("ALL",
+                samples.values().stream().flatMap(List::stream).toList(),
+                errors.values().stream().mapToLong(Long::longValue).sum(), seconds);
+        return new Report(baseUrl, options.concurrency(), seconds, endpoints, overall);
+    }
+
+    record Report(String baseUrl, int concurrency, double measuredSeconds,
+                  List<EndpointResult> endpoints, EndpointResult overall) {
+
+        String toJson() {
+            StringBuilder json = new StringBuilder();
+            json.append("{\n")
+                    .append(String.format(Locale.ROOT, "  \"baseUrl\": \"%s\",%n", baseUrl))
+                    .append(String.format(Locale.ROOT, "  \"concurrency\": %d,%n", concurrency))
+                    .append(String.format(Locale.ROOT, "  \"measuredSeconds\": %.1f,%n", measuredSeconds))
+                    .append("  \"endpoints\": [\n");
+            for (EndpointResult endpoint : endpoints) {
+                json.append("    ").append(endpoint.toJson()).append(",\n");
+            }
+            json.append("    ").append(overall.toJson()).append("\n");
+            json.append("  ]\n}\n");
+            return json.toString();
+        }
+    }
+
+    record EndpointResult(String endpoint, long requests, long errors, double throughput,
+                          double p50Millis, double p95Millis, double p99Millis) {
+
+        static EndpointResult of(String endpoint, List<long[]> samples, long errors, double seconds) {
+            long[] all = samples.stream()
+                    .flatMapToLong(Arrays::stream)
+                    .sorted()
+                    .toArray();
+            return new EndpointResult(endpoint, all.length, errors, all.length / seconds,
+                    LatencyRecorder.percentileMillis(all, 50),
+                    LatencyRecorder.percentileMillis(all, 95),
+                    LatencyRecorder.percentileMillis(all, 99));
+        }
+
+        String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"endpoint\": \"%s\", \"requests\": %d, \"errors\": %d, \"throughput\": %.1f, "
+                            + "\"p50Ms\": %.2f, \"p95Ms\": %.2f, \"p99Ms\": %.2f}",
+                    endpoint, requests, errors, throughput, p50Millis, p95Millis, p99Millis);
+        }
+    }
+
+    record WorkerStats(Map<Operation, LatencyRecorder> latencies, Map<Operation, Long> errors) {
+    }
+
+    /**
+     * 가상 사용자 한 명. 시작할 때 자기 계정을 만들고, 이후 가중치에 따라 작업을 골라 반복한다.
+     */
+    static final class VirtualUser {
+
+        private final String baseUrl;
+        private final Options options;
+        private final HttpClient client;
+        private final String email = "load-" + UUID.randomUUID() + "@example.com";
+        private String accessToken;
+
+        VirtualUser(String baseUrl, Options options) {
+            this.baseUrl = baseUrl;
+            this.options = options;
+            this.client = HttpClient.newBuilder()
+                    .cookieHandler(new CookieManager())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+        }
+
+        WorkerStats run(long measureFrom, long deadline) throws Exception {
+            Map<Operation, LatencyRecorder> latencies = new EnumMap<>(Operation.class);
+            Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+            send(Operation.REGISTER, registerBody(email));
+
+            while (System.nanoTime() < deadline) {
+                Operation operation = options.pick(ThreadLocalRandom.current().nextInt(options.totalWeight()));
+                long begin = System.nanoTime();
+                boolean ok;
+                try {
+                    ok = execute(operation);
+                } catch (IOException e) {
+                    ok = false;
+                }
+                long elapsed = System.nanoTime() - begin;
+                if (begin >= measureFrom) {
+                    latencies.computeIfAbsent(operation, key -> new LatencyRecorder()).record(elapsed);
+                    if (!ok) {
+                        errors.merge(operation, 1L, Long::sum);
+                    }
+                }
+            }
+            return new WorkerStats(latencies, errors);
+        }
+
+        private boolean execute(Operation operation) throws IOException, InterruptedException {
+            return switch (operation) {
+                case REGISTER -> send(operation, registerBody("load-" + UUID.randomUUID() + "@example.com"));
+                case LOGIN -> send(operation, "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}");
+                case ME -> send(operation, null);
+                case LIST_NOTES -> send(operation, null);
+                case CREATE_NOTE -> send(operation, "{\"title\":\"부하 테스트\",\"content\":\"" + "메모 내용 ".repeat(20) + "\"}");
+            };
+        }
+
+        private boolean send(Operation operation, String body) throws IOException, InterruptedException {
+            String path = operation.label.substring(operation.label.indexOf(' ') + 1);
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Accept", "application/json");
+            if (accessToken != null) {
+                request.header("Authorization", "Bearer " + accessToken);
+            }
+            if (body == null) {
+                request.GET();
+            } else {
+                request.header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body));
+            }
+            HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            boolean ok = response.statusCode() / 100 == 2;
+            // 자기 계정으로 로그인/가입했을 때만 인증 상태를 갱신한다 (추가 가입은 부하용)
+            if (ok && (operation == Operation.LOGIN || (operation == Operation.REGISTER && body.contains(email)))) {
+                Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+                if (matcher.find()) {
+                    accessToken = matcher.group(1);
+                }
+            }
+            return ok;
+        }
+
+        private static String registerBody(String email) {
+            return "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\",\"displayName\":\"부하 사용자\"}";
+        }
+    }
+
+    record Options(String baseUrl, List<String> extraProfiles, int concurrency, Duration duration, Duration warmup,
+                   int[] weights, Path output) {
+
+        static Options parse(Map<String, String> values) {
+            String profiles = values.getOrDefault("profiles", "");
+            int[] weights = {
+                    Integer.parseInt(values.getOrDefault("weight-register", "5")),
+                    Integer.parseInt(values.getOrDefault("weight-login", "10")),
+                    Integer.parseInt(values.getOrDefault("weight-me", "30")),
+                    Integer.parseInt(values.getOrDefault("weight-list-notes", "40")),
+                    Integer.parseInt(values.getOrDefault("weight-create-note", "15"))
+            };
+            return new Options(
+                    values.get("base-url"),
+                    profiles.isBlank() ? List.of() : List.of(profiles.split(",")),
+                    Integer.parseInt(values.getOrDefault("concurrency", "50")),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "60"))),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "10"))),
+                    weights,
+                    Path.of(values.getOrDefault("output", "build/reports/load/http.json")));
+        }
+
+        int totalWeight() {
+            int total = 0;
+            for (int weight : weights) {
+                total += weight;
+            }
+            return total;
+        }
+
+        Operation pick(int ticket) {
+            Operation[] operations = Operation.values();
+            for (int i = 0; i < weights.length; i++) {
+                ticket -= weights[i];
+                if (ticket < 0) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.aura.backend.load;
+
+import com.aura.backend.config.VirtualThreadPinningMonitor;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 실제 앱을 플랫폼 스레드(Tomcat 요청 스레드 platformThreads개)와 virtual-threads 프로필로 차례로 띄우고,
+ * LoadTestRunner와 같은 트래픽을 보내 엔드포인트별 처리량과 p50/p95/p99를 비교한다.
+ *
+ * <p>두 실행은 커넥션 풀 크기(dbPool)를 같게 맞추므로 차이는 요청 스레드 모델에서만 온다.
+ * 동시 사용자 수가 platformThreads보다 적으면 두 모델의 차이는 거의 없다.
+ * virtual-threads 실행에서는 VirtualThreadPinningMonitor가 본 pinning 건수도 함께 남긴다.
+ *
+ * <pre>
+ * ./gradlew threadModelBenchmark -PbenchmarkArgs="--concurrency=1000 --platform-threads=200 --db-pool=20"
+ * </pre>
+ */
+public final class ThreadModelBenchmark {
+
+    private ThreadModelBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> values = LoadTestArgs.parse(args);
+        values.putIfAbsent("concurrency", "1000");
+        values.remove("base-url");
+        values.remove("profiles");
+        LoadTestRunner.Options options = LoadTestRunner.Options.parse(values);
+        int platformThreads = Integer.parseInt(values.getOrDefault("platform-threads", "200"));
+        int dbPool = Integer.parseInt(values.getOrDefault("db-pool", "20"));
+        Path output = Path.of(values.getOrDefault("output", "build/reports/load/thread-model.json"));
+
+        String pool = "spring.datasource.hikari.maximum-pool-size=" + dbPool;
+        String idle = "spring.datasource.hikari.minimum-idle=" + dbPool;
+        List<String> runs = new ArrayList<>();
+        runs.add(run("platform-" + platformThreads, List.of(), options,
+                pool, idle, "server.tomcat.threads.max=" + platformThreads));
+        runs.add(run("virtual", List.of("virtual-threads"), options, pool, idle));
+
+        String json = "[\n" + String.join(",\n", runs) + "\n]\n";
+        System.out.print(json);
+        writeReport(output, json);
+    }
+
+    private static String run(String name, List<String> profiles, LoadTestRunner.Options options,
+                              String... properties) throws Exception {
+        try (ConfigurableApplicationContext context = LoadTestRunner.startApp(profiles, properties)) {
+            LoadTestRunner.Report report = LoadTestRunner.run(LoadTestRunner.baseUrl(context), options);
+            String pinned = context.getBeanProvider(VirtualThreadPinningMonitor.class)
+                    .stream()
+                    .findFirst()
+                    .map(monitor -> String.valueOf(monitor.pinnedCount()))
+                    .orElse("null");
+            return String.format(Locale.ROOT, "{\"name\": \"%s\", \"profiles\": \"%s\", \"pinnedEvents\": %s,%n"
+                            + "\"report\": %s}",
+                    name, String.join(",", profiles), pinned, report.toJson().strip());
+        }
+    }
+
+    private static void writeReport(Path output, String json) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Files.writeString(output, json);
+        System.out.println("report: " + output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,11 @@
+package com.aura.backend.audit;
+
+import java.time.Instant;
+
+/**
+ * @param userId        알 수 없으면(가입 거절, 로그인 실패 등) null
+ * @param email         소문자로 바꿔 기록하며, UTF-8 기준 {@value AuthJournalFormat#EMAIL_BYTES}바이트를 넘으면 잘린다
+ * @param remoteAddress IP 주소 문자열, 알 수 없으면 null
+ */
+public record AuthEvent(Instant timestamp, AuthEventType type, Long userId, String email, String remoteAddress) {
+}
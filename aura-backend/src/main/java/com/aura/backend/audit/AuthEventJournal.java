@@ -0,0 +1,290 @@
+package com.aura.backend.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 이벤트를 고정 길이 바이너리 레코드로 메모리 맵 세그먼트 파일에 덧붙이는 저널. DB에는 아무것도 쓰지 않는다.
+ *
+ * <p>요청 스레드는 이벤트를 대기열에 offer만 하고 기다리지 않는다. 대기열이 가득 차면 이벤트를 버리고 세기만 한다.
+ * 전용 스레드 하나가 IP 변환과 인코딩을 맡아 현재 세그먼트에 쓰고, 세그먼트가 가득 차거나
+ * rollInterval이 지나면 force 후 닫고 다음 파일을 연다. 기록은 페이지 캐시에 바로 반영되므로
+ * 프로세스가 죽어도 남고, 실행 중에도 {@link AuthJournalReader}로 읽을 수 있다(OS 장애 시에는 마지막 force 이후분이 유실될 수 있다).
+ * 새 세그먼트를 열 때마다 retention보다 오래된 세그먼트를 지우므로 디렉터리 크기는 보존 기간만큼으로 묶인다.
+ *
+ * <p>aura.audit.journal.written, .dropped{reason=queue-full|io-error}, .queued를 기록한다.
+ */
+@Slf4j
+@Component
+public class AuthEventJournal implements SmartLifecycle {
+
+    private static final long POLL_MILLIS = 1000;
+    private static final long FAILURE_LOG_INTERVAL_MILLIS = 60_000;
+    private static final DateTimeFormatter SEGMENT_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final AuthJournalProperties properties;
+    private final BlockingQueue<PendingEvent> queue;
+    private final int segmentBytes;
+
+    private final Counter written;
+    private final Counter queueFull;
+    private final Counter ioError;
+
+    private volatile boolean accepting;
+    private volatile Thread writer;
+
+    // 아래는 작성 스레드만 사용한다
+    private Segment segment;
+    private int segmentSequence;
+    private long lastFailureLoggedAt;
+
+    public AuthEventJournal(AuthJournalProperties properties, MeterRegistry meterRegistry) {
+        long bytes = properties.segmentSize().toBytes();
+        if (bytes < 2L * AuthJournalFormat.RECORD_SIZE || bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("aura.audit.journal.segment-size는 "
+                    + 2 * AuthJournalFormat.RECORD_SIZE + "B 이상 2GB 미만이어야 합니다.");
+        }
+        this.properties = properties;
+        this.segmentBytes = (int) (bytes - bytes % AuthJournalFormat.RECORD_SIZE);
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        this.written = meterRegistry.counter("aura.audit.journal.written");
+        this.queueFull = meterRegistry.counter("aura.audit.journal.dropped", "reason", "queue-full");
+        this.ioError = meterRegistry.counter("aura.audit.journal.dropped", "reason", "io-error");
+        Gauge.builder("aura.audit.journal.queued", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 스레드에서 호출한다. 막히지 않으며, 저널이 꺼져 있거나 대기열이 가득 차면 기록하지 않는다.
+     */
+    public void record(AuthEventType type, Long userId, String email, String remoteAddress) {
+        if (!accepting) {
+            return;
+        }
+        if (!queue.offer(new PendingEvent(System.currentTimeMillis(), type, userId, email, remoteAddress))) {
+            queueFull.increment();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        accepting = true;
+        writer = Thread.ofPlatform().name("auth-journal-writer").daemon(true).start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        stop(() -> { });
+    }
+
+    /**
+     * 새 이벤트 접수를 막고, 작성 스레드가 대기열을 비우고 세그먼트를 닫은 뒤 callback을 호출한다.
+     */
+    @Override
+    public synchronized void stop(Runnable callback) {
+        accepting = false;
+        Thread current = writer;
+        if (current == null) {
+            callback.run();
+            return;
+        }
+        Thread.ofVirtual().name("auth-journal-drain").start(() -> {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                callback.run();
+            }
+        });
+    }
+
+    @Override
+    public boolean isRunning() {
+        Thread current = writer;
+        return current != null && current.isAlive();
+    }
+
+    /**
+     * 웹 서버(graceful shutdown 포함)보다 늦게 멈춰서, 종료 직전의 로그인/로그아웃까지 기록한다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        long rollIntervalNanos = properties.rollInterval().toNanos();
+        while (accepting || !queue.isEmpty()) {
+            try {
+                PendingEvent event = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (segment != null && System.nanoTime() - segment.openedNanos() >= rollIntervalNanos) {
+                    closeSegment();
+                }
+                if (event != null) {
+                    append(event);
+                }
+            } catch (InterruptedException e) {
+                // 인터럽트는 종료 신호로만 쓰이므로 남은 이벤트를 비울 때까지 계속한다
+                accepting = false;
+            }
+        }
+        closeSegment();
+        log.info("인증 이벤트 저널 종료");
+    }
+
+    private void append(PendingEvent event) {
+        try {
+            if (segment == null || segment.isFull()) {
+                closeSegment();
+                segment = openSegment();
+            }
+            segment.append(event);
+            written.increment();
+        } catch (IOException | RuntimeException e) {
+            ioError.increment();
+            long now = System.currentTimeMillis();
+            if (now - lastFailureLoggedAt >= FAILURE_LOG_INTERVAL_MILLIS) {
+                lastFailureLoggedAt = now;
+                log.error("인증 이벤트 저널에 기록하지 못했습니다 (directory={})", properties.directory(), e);
+            }
+        }
+    }
+
+    private Segment openSegment() throws IOException {
+        Files.createDirectories(properties.directory());
+        Instant now = Instant.now();
+        deleteExpiredSegments(now);
+        while (true) {
+            Path path = properties.directory().resolve(AuthJournalFormat.SEGMENT_PREFIX + SEGMENT_TIME.format(now)
+                    + "-" + String.format("%04d", segmentSequence++) + AuthJournalFormat.SEGMENT_SUFFIX);
+            try {
+                return Segment.create(path, segmentBytes, now.toEpochMilli());
+            } catch (FileAlreadyExistsException e) {
+                // 같은 초에 재시작한 경우 등, 다음 번호로 만든다
+            }
+        }
+    }
+
+    /**
+     * 마지막으로 기록된 시각(파일 수정 시각)이 retention보다 오래된 세그먼트를 지운다. 현재 세그먼트는 이미 닫혀 있다.
+     */
+    private void deleteExpiredSegments(Instant now) {
+        if (properties.retention() == null || properties.retention().isZero()) {
+            return;
+        }
+        Instant cutoff = now.minus(properties.retention());
+        int deleted = 0;
+        try (DirectoryStream<Path> segments = Files.newDirectoryStream(properties.directory(),
+                AuthJournalFormat.SEGMENT_PREFIX + "*" + AuthJournalFormat.SEGMENT_SUFFIX)) {
+            for (Path path : segments) {
+                if (Files.getLastModifiedTime(path).toInstant().isBefore(cutoff) && Files.deleteIfExists(path)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("보존 기간이 지난 저널 세그먼트를 지우지 못했습니다 (directory={})", properties.directory(), e);
+        }
+        if (deleted > 0) {
+            log.info("보존 기간({})이 지난 저널 세그먼트 {}개를 지웠습니다", properties.retention(), deleted);
+        }
+    }
+
+    private void closeSegment() {
+        if (segment == null) {
+            return;
+        }
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("저널 세그먼트를 닫지 못했습니다 ({})", segment.path(), e);
+        }
+        segment = null;
+    }
+
+    private record PendingEvent(long timestampMillis, AuthEventType type, Long userId, String email,
+                                String remoteAddress) {
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final long openedNanos;
+        private int nextOffset = AuthJournalFormat.RECORD_SIZE;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.openedNanos = System.nanoTime();
+        }
+
+        /**
+         * 파일을 segmentBytes 크기로 미리 늘려 매핑한다. 늘어난 구간은 0으로 읽히므로 빈 슬롯이 곧 기록의 끝이다.
+         */
+        static Segment create(Path path, int segmentBytes, long createdAtMillis) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+                AuthJournalFormat.writeHeader(buffer, createdAtMillis);
+                return new Segment(path, channel, buffer);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        Path path() {
+            return path;
+        }
+
+        long openedNanos() {
+            return openedNanos;
+        }
+
+        boolean isFull() {
+            return nextOffset + AuthJournalFormat.RECORD_SIZE > buffer.capacity();
+        }
+
+        void append(PendingEvent event) {
+            AuthJournalFormat.write(buffer, nextOffset, event.timestampMillis(), event.type(), event.userId(),
+                    AuthJournalFormat.encodeAddress(event.remoteAddress()),
+                    AuthJournalFormat.encodeEmail(event.email()));
+            nextOffset += AuthJournalFormat.RECORD_SIZE;
+        }
+
+        void close() throws IOException {
+            try {
+                buffer.force();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.aura.backend.audit;
+
+/**
+ * 저널에는 code 한 바이트로 기록된다. 이미 쓰인 code는 바꾸거나 재사용하지 않는다.
+ */
+public enum AuthEventType {
+    REGISTER(1),
+    REGISTER_REJECTED(2),
+    LOGIN(3),
+    LOGIN_FAILED(4),
+    LOGIN_THROTTLED(5),
+    LOGOUT(6),
+    REFRESH(7),
+    REFRESH_FAILED(8),
+    SOCIAL_LOGIN(9),
+    SOCIAL_LOGIN_FAILED(10);
+
+    private static final AuthEventType[] BY_CODE = new AuthEventType[256];
+
+    static {
+        for (AuthEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    AuthEventType(int code) {
+        this.code = code;
+    }
+
+    public byte code() {
+        return (byte) code;
+    }
+
+    /**
+     * 알 수 없는 code(더 새로운 버전이 쓴 저널)면 null.
+     */
+    public static AuthEventType fromCode(byte code) {
+        return BY_CODE[code & 0xFF];
+    }
+}
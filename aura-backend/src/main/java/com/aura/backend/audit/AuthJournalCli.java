@@ -0,0 +1,113 @@
+package com.aura.backend.audit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 인증 이벤트 저널 조회 도구. 스프링 컨텍스트 없이 세그먼트 파일만 읽는다.
+ *
+ * <pre>
+ * ./gradlew authJournal -PjournalArgs="--dir=./data/auth-journal --since=PT1H --type=LOGIN_FAILED,LOGIN_THROTTLED"
+ * </pre>
+ *
+ * 옵션: --dir, --from/--to(ISO-8601 시각), --since(ISO-8601 기간), --type(쉼표 구분), --user, --email, --ip,
+ * --count(건수만 출력), --limit(출력할 최대 건수). 결과는 표준 출력에 탭 구분으로, 처리량은 표준 에러에 쓴다.
+ */
+public final class AuthJournalCli {
+
+    private AuthJournalCli() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of("data/auth-journal");
+        Instant from = null;
+        Instant to = null;
+        Set<AuthEventType> types = null;
+        Long userId = null;
+        String email = null;
+        String address = null;
+        boolean countOnly = false;
+        long limit = Long.MAX_VALUE;
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = separator < 0 ? arg : arg.substring(0, separator);
+            String value = separator < 0 ? "" : arg.substring(separator + 1);
+            switch (name) {
+                case "--dir" -> directory = Path.of(value);
+                case "--from" -> from = Instant.parse(value);
+                case "--to" -> to = Instant.parse(value);
+                case "--since" -> from = Instant.now().minus(Duration.parse(value));
+                case "--type" -> {
+                    types = EnumSet.noneOf(AuthEventType.class);
+                    for (String type : value.split(",")) {
+                        types.add(AuthEventType.valueOf(type.strip().toUpperCase(Locale.ROOT)));
+                    }
+                }
+                case "--user" -> userId = Long.parseLong(value);
+                case "--email" -> email = value;
+                case "--ip" -> address = value;
+                case "--count" -> countOnly = true;
+                case "--limit" -> limit = Long.parseLong(value);
+                default -> {
+                    System.err.println("알 수 없는 옵션: " + arg);
+                    System.err.println("사용 가능: --dir --from --to --since --type --user --email --ip --count --limit");
+                    System.exit(2);
+                    return;
+                }
+            }
+        }
+
+        AuthJournalReader reader = new AuthJournalReader(directory);
+        AuthJournalReader.Filter filter = new AuthJournalReader.Filter(from, to, types, userId, email, address);
+        long started = System.nanoTime();
+        AuthJournalReader.ScanResult result;
+        if (countOnly) {
+            result = reader.count(filter);
+            System.out.println(result.matched());
+        } else {
+            result = print(reader, filter, limit);
+        }
+        report(result, System.nanoTime() - started);
+    }
+
+    private static AuthJournalReader.ScanResult print(AuthJournalReader reader, AuthJournalReader.Filter filter,
+                                                      long limit) throws IOException {
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        long[] printed = {0};
+        AuthJournalReader.ScanResult result = reader.scan(filter, event -> {
+            if (printed[0]++ >= limit) {
+                return;
+            }
+            try {
+                out.write(String.join("\t", Arrays.asList(
+                        event.timestamp().toString(),
+                        String.valueOf(event.type()),
+                        event.userId() == null ? "-" : event.userId().toString(),
+                        event.remoteAddress() == null ? "-" : event.remoteAddress(),
+                        event.email() == null ? "-" : event.email())));
+                out.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+        return result;
+    }
+
+    private static void report(AuthJournalReader.ScanResult result, long elapsedNanos) {
+        double seconds = Math.max(elapsedNanos, 1) / 1e9;
+        System.err.printf(Locale.ROOT, "scanned=%d matched=%d elapsed=%.3fs rate=%.0f records/s%n",
+                result.scanned(), result.matched(), seconds, result.scanned() / seconds);
+    }
+}
@@ -0,0 +1,147 @@
+package com.aura.backend.audit;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 세그먼트 파일 배치. 파일은 RECORD_SIZE 크기의 슬롯 배열이고, 0번 슬롯은 헤더, 1번부터 이벤트다.
+ *
+ * <pre>
+ * 헤더   0 magic(8) | 8 version(4) | 12 recordSize(4) | 16 createdAtMillis(8)
+ * 이벤트 0 timestampMillis(8) | 8 userId(8, 없으면 0) | 16 type(1) | 17 addressLength(1) | 18 emailLength(1)
+ *        | 19 예약(1) | 20 address(16) | 36 email(92, UTF-8)
+ * </pre>
+ *
+ * 파일은 미리 0으로 채워진 크기로 만들어지고, 작성 스레드는 타임스탬프를 마지막에 쓴다.
+ * 따라서 타임스탬프가 0인 첫 슬롯이 기록의 끝이다.
+ */
+final class AuthJournalFormat {
+
+    static final long MAGIC = 0x4155524141555448L; // "AURAAUTH"
+    static final int VERSION = 1;
+    static final int RECORD_SIZE = 128;
+    static final String SEGMENT_PREFIX = "auth-";
+    static final String SEGMENT_SUFFIX = ".journal";
+
+    static final int TIMESTAMP = 0;
+    static final int USER_ID = 8;
+    static final int TYPE = 16;
+    static final int ADDRESS_LENGTH = 17;
+    static final int EMAIL_LENGTH = 18;
+    static final int ADDRESS = 20;
+    static final int ADDRESS_BYTES = 16;
+    static final int EMAIL = 36;
+    static final int EMAIL_BYTES = RECORD_SIZE - EMAIL;
+
+    private AuthJournalFormat() {
+    }
+
+    static void writeHeader(ByteBuffer buffer, long createdAtMillis) {
+        buffer.putLong(0, MAGIC);
+        buffer.putInt(8, VERSION);
+        buffer.putInt(12, RECORD_SIZE);
+        buffer.putLong(16, createdAtMillis);
+    }
+
+    static boolean hasValidHeader(ByteBuffer buffer) {
+        return buffer.capacity() >= RECORD_SIZE
+                && buffer.getLong(0) == MAGIC
+                && buffer.getInt(8) == VERSION
+                && buffer.getInt(12) == RECORD_SIZE;
+    }
+
+    static long createdAtMillis(ByteBuffer buffer) {
+        return buffer.getLong(16);
+    }
+
+    static void write(ByteBuffer buffer, int offset, long timestampMillis, AuthEventType type, Long userId,
+                      byte[] address, byte[] email) {
+        buffer.putLong(offset + USER_ID, userId == null ? 0 : userId);
+        buffer.put(offset + TYPE, type.code());
+        buffer.put(offset + ADDRESS_LENGTH, (byte) address.length);
+        buffer.put(offset + EMAIL_LENGTH, (byte) email.length);
+        buffer.put(offset + ADDRESS, address);
+        buffer.put(offset + EMAIL, email);
+        // 타임스탬프가 0이 아니게 되는 순간 기록이 보이므로 마지막에 쓴다
+        buffer.putLong(offset + TIMESTAMP, timestampMillis);
+    }
+
+    static AuthEvent read(ByteBuffer buffer, int offset) {
+        long userId = buffer.getLong(offset + USER_ID);
+        byte[] address = new byte[buffer.get(offset + ADDRESS_LENGTH)];
+        buffer.get(offset + ADDRESS, address);
+        byte[] email = new byte[buffer.get(offset + EMAIL_LENGTH)];
+        buffer.get(offset + EMAIL, email);
+        return new AuthEvent(
+                Instant.ofEpochMilli(buffer.getLong(offset + TIMESTAMP)),
+                AuthEventType.fromCode(buffer.get(offset + TYPE)),
+                userId == 0 ? null : userId,
+                email.length == 0 ? null : new String(email, StandardCharsets.UTF_8),
+                formatAddress(address));
+    }
+
+    /**
+     * 소문자로 바꾼 UTF-8 바이트를 EMAIL_BYTES까지 자른다. 검색 조건도 같은 함수로 바꿔 바이트끼리 비교한다.
+     * 멀티바이트 문자가 중간에 잘리지 않도록 문자 경계에서 자른다.
+     */
+    static byte[] encodeEmail(String email) {
+        if (email == null) {
+            return new byte[0];
+        }
+        byte[] bytes = email.strip().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= EMAIL_BYTES) {
+            return bytes;
+        }
+        int end = EMAIL_BYTES;
+        // 잘리는 첫 바이트가 연속 바이트(10xxxxxx)면 그 문자의 시작 바이트까지 물러난다
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return Arrays.copyOf(bytes, end);
+    }
+
+    /**
+     * IP 리터럴만 변환한다(이름 조회를 하지 않도록 문자 구성을 먼저 확인). 그 외에는 빈 배열.
+     */
+    static byte[] encodeAddress(String address) {
+        if (address == null || address.isEmpty() || address.length() > 64) {
+            return new byte[0];
+        }
+        int zone = address.indexOf('%');
+        String literal = zone < 0 ? address : address.substring(0, zone);
+        boolean ipv6 = literal.indexOf(':') >= 0;
+        if (!ipv6 && literal.indexOf('.') < 0) {
+            return new byte[0];
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            boolean allowed = ipv6
+                    ? Character.digit(c, 16) >= 0 || c == ':' || c == '.' || c == '[' || c == ']'
+                    : (c >= '0' && c <= '9') || c == '.';
+            if (!allowed) {
+                return new byte[0];
+            }
+        }
+        try {
+            return InetAddress.getByName(literal).getAddress();
+        } catch (UnknownHostException e) {
+            return new byte[0];
+        }
+    }
+
+    static String formatAddress(byte[] address) {
+        if (address.length != 4 && address.length != ADDRESS_BYTES) {
+            return null;
+        }
+        try {
+            return InetAddress.getByAddress(address).getHostAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+}
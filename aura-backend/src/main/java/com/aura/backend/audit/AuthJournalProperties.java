@@ -0,0 +1,25 @@
+package com.aura.backend.audit;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * @param enabled       false면 이벤트를 기록하지 않는다
+ * @param directory     세그먼트 파일을 만드는 디렉터리
+ * @param segmentSize   세그먼트 파일 하나의 크기 (2GB 미만), 가득 차면 새 파일로 넘어간다
+ * @param rollInterval  세그먼트를 연 뒤 이 시간이 지나면 가득 차지 않아도 새 파일로 넘어간다
+ * @param retention     마지막 기록이 이보다 오래된 세그먼트는 새 세그먼트를 열 때 지운다, 0이면 지우지 않는다
+ * @param queueCapacity 기록 대기열 크기, 가득 차면 요청 스레드를 막지 않고 이벤트를 버린다
+ */
+@ConfigurationProperties("aura.audit.journal")
+public record AuthJournalProperties(
+        boolean enabled,
+        Path directory,
+        DataSize segmentSize,
+        Duration rollInterval,
+        Duration retention,
+        int queueCapacity
+) {
+}
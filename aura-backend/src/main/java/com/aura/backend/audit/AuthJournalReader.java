@@ -0,0 +1,211 @@
+package com.aura.backend.audit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 저널 디렉터리의 세그먼트를 읽기 전용으로 매핑해 훑는다. 작성 중인 세그먼트도 읽을 수 있다.
+ *
+ * <p>조건 비교는 매핑된 버퍼의 고정 위치를 바로 읽어서 하고, 조건에 맞는 레코드만 {@link AuthEvent}로 만든다.
+ * 세그먼트는 생성 시각 순으로 이름이 붙으므로, 다음 세그먼트가 from보다 먼저 만들어졌다면 통째로 건너뛴다.
+ */
+public final class AuthJournalReader {
+
+    private final Path directory;
+
+    public AuthJournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 조건에 맞는 이벤트를 세그먼트 순서대로 consumer에 넘긴다.
+     */
+    public ScanResult scan(Filter filter, Consumer<AuthEvent> consumer) throws IOException {
+        CompiledFilter compiled = CompiledFilter.of(filter);
+        long scanned = 0;
+        long matched = 0;
+        for (Path segment : segmentsFor(compiled)) {
+            ScanResult result = scanSegment(segment, compiled, consumer);
+            scanned += result.scanned();
+            matched += result.matched();
+        }
+        return new ScanResult(scanned, matched);
+    }
+
+    /**
+     * 건수만 센다. 세그먼트를 병렬로 읽는다.
+     */
+    public ScanResult count(Filter filter) throws IOException {
+        CompiledFilter compiled = CompiledFilter.of(filter);
+        return segmentsFor(compiled).parallelStream()
+                .map(segment -> {
+                    try {
+                        return scanSegment(segment, compiled, null);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .reduce(new ScanResult(0, 0), ScanResult::plus);
+    }
+
+    private List<Path> segmentsFor(CompiledFilter filter) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(AuthJournalFormat.SEGMENT_PREFIX)
+                                && name.endsWith(AuthJournalFormat.SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+        if (filter.fromMillis() == Long.MIN_VALUE) {
+            return segments;
+        }
+        List<Path> selected = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            // 한 세그먼트의 기록은 모두 다음 세그먼트가 만들어지기 전에 접수된 것이다
+            boolean endsBeforeFrom = i + 1 < segments.size()
+                    && createdAtMillis(segments.get(i + 1)) < filter.fromMillis();
+            if (!endsBeforeFrom) {
+                selected.add(segments.get(i));
+            }
+        }
+        return selected;
+    }
+
+    private static long createdAtMillis(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(AuthJournalFormat.RECORD_SIZE);
+            channel.read(header, 0);
+            return AuthJournalFormat.hasValidHeader(header) ? AuthJournalFormat.createdAtMillis(header) : Long.MAX_VALUE;
+        }
+    }
+
+    private static ScanResult scanSegment(Path segment, CompiledFilter filter, Consumer<AuthEvent> consumer)
+            throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long size = channel.size() - channel.size() % AuthJournalFormat.RECORD_SIZE;
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, Integer.MAX_VALUE));
+        }
+        if (!AuthJournalFormat.hasValidHeader(buffer)) {
+            return new ScanResult(0, 0);
+        }
+
+        long scanned = 0;
+        long matched = 0;
+        for (int offset = AuthJournalFormat.RECORD_SIZE;
+             offset + AuthJournalFormat.RECORD_SIZE <= buffer.capacity();
+             offset += AuthJournalFormat.RECORD_SIZE) {
+            long timestamp = buffer.getLong(offset + AuthJournalFormat.TIMESTAMP);
+            if (timestamp == 0) {
+                break;
+            }
+            scanned++;
+            if (filter.matches(buffer, offset, timestamp)) {
+                matched++;
+                if (consumer != null) {
+                    consumer.accept(AuthJournalFormat.read(buffer, offset));
+                }
+            }
+        }
+        return new ScanResult(scanned, matched);
+    }
+
+    /**
+     * 모든 항목은 선택 사항이며 null이면 그 조건으로 거르지 않는다.
+     *
+     * @param to            이 시각 이전(미포함)까지
+     * @param email         소문자 기준 정확히 일치
+     * @param remoteAddress IP 주소 문자열
+     */
+    public record Filter(Instant from, Instant to, Set<AuthEventType> types, Long userId, String email,
+                         String remoteAddress) {
+
+        public static Filter all() {
+            return new Filter(null, null, null, null, null, null);
+        }
+    }
+
+    public record ScanResult(long scanned, long matched) {
+
+        ScanResult plus(ScanResult other) {
+            return new ScanResult(scanned + other.scanned, matched + other.matched);
+        }
+    }
+
+    private record CompiledFilter(long fromMillis, long toMillis, boolean[] types, long userId, byte[] email,
+                                  byte[] address) {
+
+        static CompiledFilter of(Filter filter) {
+            boolean[] types = null;
+            if (filter.types() != null && !filter.types().isEmpty()) {
+                types = new boolean[256];
+                for (AuthEventType type : filter.types()) {
+                    types[type.code() & 0xFF] = true;
+                }
+            }
+            byte[] address = null;
+            if (filter.remoteAddress() != null) {
+                address = AuthJournalFormat.encodeAddress(filter.remoteAddress());
+                if (address.length == 0) {
+                    throw new IllegalArgumentException("IP 주소 형식이 아닙니다: " + filter.remoteAddress());
+                }
+            }
+            return new CompiledFilter(
+                    filter.from() == null ? Long.MIN_VALUE : filter.from().toEpochMilli(),
+                    filter.to() == null ? Long.MAX_VALUE : filter.to().toEpochMilli(),
+                    types,
+                    filter.userId() == null ? 0 : filter.userId(),
+                    filter.email() == null ? null : AuthJournalFormat.encodeEmail(filter.email()),
+                    address);
+        }
+
+        boolean matches(ByteBuffer buffer, int offset, long timestamp) {
+            if (timestamp < fromMillis || timestamp >= toMillis) {
+                return false;
+            }
+            if (types != null && !types[buffer.get(offset + AuthJournalFormat.TYPE) & 0xFF]) {
+                return false;
+            }
+            if (userId != 0 && buffer.getLong(offset + AuthJournalFormat.USER_ID) != userId) {
+                return false;
+            }
+            if (email != null && !bytesEqual(buffer, offset + AuthJournalFormat.EMAIL_LENGTH,
+                    offset + AuthJournalFormat.EMAIL, email)) {
+                return false;
+            }
+            return address == null || bytesEqual(buffer, offset + AuthJournalFormat.ADDRESS_LENGTH,
+                    offset + AuthJournalFormat.ADDRESS, address);
+        }
+
+        private static boolean bytesEqual(ByteBuffer buffer, int lengthIndex, int dataIndex, byte[] expected) {
+            if (buffer.get(lengthIndex) != expected.length) {
+                return false;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                if (buffer.get(dataIndex + i) != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
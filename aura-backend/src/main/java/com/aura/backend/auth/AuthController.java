@@ -1,8 +1,18 @@
 package com.aura.backend.auth;
 
+import com.aura.backend.audit.AuthEventJournal;
+import com.aura.backend.audit.AuthEventType;
 import com.aura.backend.auth.dto.AuthResponse;
 import com.aura.backend.auth.dto.LoginRequest;
+import com.aura.backend.auth.dto.RefreshTokenRequest;
 import com.aura.backend.auth.dto.RegisterRequest;
+import com.aura.backend.auth.dto.SocialLoginRequest;
+import com.aura.backend.auth.social.SocialAccountService;
+import com.aura.backend.auth.social.SocialLoginClient;
+import com.aura.backend.security.CustomUserDetailsService;
+import com.aura.backend.security.LoginRateLimiter;
+import com.aura.backend.security.TokenService;
+import com.aura.backend.security.TooManyRequestsException;
 import com.aura.backend.security.UserPrincipal;
 import com.aura.backend.user.AuthProvider;
 import com.aura.backend.user.User;
@@ -10,20 +20,36 @@ import com.aura.backend.user.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 @RestController
@@ -31,15 +57,23 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final String EMAIL_CONSTRAINT = "uk_user_email";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final SecurityContextRepository securityContextRepository;
+    private final CustomUserDetailsService userDetailsService;
+    private final TokenService tokenService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final AuthEventJournal authEventJournal;
+    private final SocialLoginClient socialLoginClient;
+    private final SocialAccountService socialAccountService;
 
     @PostMapping("/register")
-    public AuthResponse register(@Valid @RequestBody RegisterRequest request) {
-        if (userRepository.existsByEmail(request.email())) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 가입된 이메일입니다.");
-        }
+    public AuthResponse register(@Valid @RequestBody RegisterRequest request,
+                                 HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        checkRateLimit(request.email(), httpRequest);
 
         User user = User.builder()
                 .email(request.email())
@@ -47,36 +81,189 @@ public class AuthController {
                 .password(passwordEncoder.encode(request.password()))
                 .provider(AuthProvider.LOCAL)
                 .build();
-        User savedUser = userRepository.save(user);
+        // 존재 여부를 따로 묻지 않고 insert 한 번으로 끝낸다. 중복은 uk_user_email 위반으로만 판단하므로 동시 가입도 409가 된다.
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (!violates(e, EMAIL_CONSTRAINT)) {
+                throw e;
+            }
+            journal(AuthEventType.REGISTER_REJECTED, null, request.email(), httpRequest);
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 가입된 이메일입니다.");
+        }
 
-        authenticateUser(request.email(), request.password());
-        return AuthResponse.from(savedUser);
+        // 방금 해싱한 비밀번호를 다시 검증하지 않고 저장된 사용자로 바로 로그인 처리한다
+        journal(AuthEventType.REGISTER, savedUser.getId(), savedUser.getEmail(), httpRequest);
+        UserPrincipal principal = new UserPrincipal(savedUser);
+        storeAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()), httpRequest, httpResponse);
+        return respond(principal);
     }
 
     @PostMapping("/login")
-    public AuthResponse login(@Valid @RequestBody LoginRequest request) {
-        Authentication authentication = authenticateUser(request.email(), request.password());
+    public AuthResponse login(@Valid @RequestBody LoginRequest request,
+                              HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        // 시도 제한을 BCrypt 검증보다 먼저 확인해 폭주하는 시도가 해싱 풀을 채우지 못하게 한다
+        checkRateLimit(request.email(), httpRequest);
+        Authentication authentication;
+        try {
+            authentication = authenticateUser(request.email(), request.password(), httpRequest, httpResponse);
+        } catch (AuthenticationException e) {
+            journal(AuthEventType.LOGIN_FAILED, null, request.email(), httpRequest);
+            throw e;
+        }
         UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
-        return AuthResponse.from(principal);
+        journal(AuthEventType.LOGIN, principal.getId(), principal.getEmail(), httpRequest);
+        return respond(principal);
+    }
+
+    /**
+     * 제공자 호출을 기다리는 동안 서블릿 스레드를 놓아주도록 비동기로 응답한다.
+     * 처음 로그인한 소셜 계정은 이때 가입되고, 이후 로그인은 (provider, providerId)로 찾는다.
+     */
+    @PostMapping("/social/{provider}")
+    public CompletableFuture<AuthResponse> socialLogin(@PathVariable String provider,
+                                                       @Valid @RequestBody SocialLoginRequest request,
+                                                       HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        AuthProvider authProvider = socialLoginClient.resolve(provider);
+        checkRateLimit(null, httpRequest);
+        String remoteAddress = httpRequest.getRemoteAddr();
+        return socialLoginClient.authenticate(authProvider, request)
+                .thenApply(identity -> {
+                    UserPrincipal principal = new UserPrincipal(socialAccountService.findOrCreate(identity));
+                    storeAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                            principal, null, principal.getAuthorities()), httpRequest, httpResponse);
+                    authEventJournal.record(AuthEventType.SOCIAL_LOGIN, principal.getId(), principal.getEmail(), remoteAddress);
+                    return respond(principal);
+                })
+                .whenComplete((response, failure) -> {
+                    if (failure != null) {
+                        authEventJournal.record(AuthEventType.SOCIAL_LOGIN_FAILED, null, null, remoteAddress);
+                    }
+                });
     }
 
+    @PostMapping("/refresh")
+    public AuthResponse refresh(@Valid @RequestBody RefreshTokenRequest request, HttpServletRequest httpRequest) {
+        if (!tokenService.isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        try {
+            TokenService.RefreshClaims claims = tokenService.consumeRefreshToken(request.refreshToken());
+            UserPrincipal principal = (UserPrincipal) userDetailsService.loadUserByUsername(claims.email());
+            if (!principal.getId().equals(claims.userId())) {
+                journal(AuthEventType.REFRESH_FAILED, claims.userId(), claims.email(), httpRequest);
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
+            }
+            journal(AuthEventType.REFRESH, principal.getId(), principal.getEmail(), httpRequest);
+            return respond(principal);
+        } catch (JwtException | UsernameNotFoundException e) {
+            journal(AuthEventType.REFRESH_FAILED, null, null, httpRequest);
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
+        }
+    }
+
+    /**
+     * 응답은 인증 정보만으로 만들어지므로, 그 값의 SHA-256 지문을 사용자별 버전으로 삼아 ETag를 붙인다.
+     * 지문은 응답에 담기는 값만으로 정해지므로 어느 인스턴스가 응답하든 같은 사용자 정보에는 같은 ETag가 나온다.
+     */
     @GetMapping("/me")
-    public AuthResponse me(@AuthenticationPrincipal UserPrincipal principal) {
+    public ResponseEntity<AuthResponse> me(@AuthenticationPrincipal UserPrincipal principal, WebRequest webRequest) {
         if (principal == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
         }
-        return AuthResponse.from(principal);
+        String etag = "me-" + principal.getId() + "-" + fingerprint(principal);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(AuthResponse.from(principal));
     }
 
+    /**
+     * 세션 모드의 로그아웃은 보안 필터 체인의 LogoutFilter가 처리하므로 여기에는 토큰 모드 요청만 온다.
+     * Bearer 인증을 거친 사용자의 refresh 토큰을 모두 폐기한다. access 토큰은 만료(access-token-ttl)까지 유효하다.
+     */
     @PostMapping("/logout")
-    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
-        new SecurityContextLogoutHandler().logout(request, response, authentication);
+    public void logout(HttpServletRequest request, Authentication authentication) {
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        tokenService.revokeRefreshTokens(principal.getId());
+        journal(AuthEventType.LOGOUT, principal.getId(), principal.getEmail(), request);
     }
 
-    private Authentication authenticateUser(String email, String password) {
+    /**
+     * 시도 제한에 걸린 요청도 저널에 남긴다. 계정 단위 제한인지 IP 단위인지는 구분하지 않는다.
+     */
+    private void checkRateLimit(String email, HttpServletRequest httpRequest) {
+        try {
+            loginRateLimiter.check(httpRequest.getRemoteAddr(), email);
+        } catch (TooManyRequestsException e) {
+            journal(AuthEventType.LOGIN_THROTTLED, null, email, httpRequest);
+            throw e;
+        }
+    }
+
+    /**
+     * 다른 제약(소셜 계정 인덱스, not null 등) 위반까지 409로 바꾸면 원인이 가려지므로 위반한 제약 이름을 확인한다.
+     */
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return constraint.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+
+    private void journal(AuthEventType type, Long userId, String email, HttpServletRequest httpRequest) {
+        authEventJournal.record(type, userId, email, httpRequest.getRemoteAddr());
+    }
+
+    private Authentication authenticateUser(String email, String password,
+                                            HttpServletRequest request, HttpServletResponse response) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(email, password));
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+        storeAuthentication(authentication, request, response);
         return authentication;
     }
+
+    private void storeAuthentication(Authentication authentication,
+                                     HttpServletRequest request, HttpServletResponse response) {
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            // 세션 저장소에 비밀번호 해시가 직렬화되지 않게 한다
+            UsernamePasswordAuthenticationToken sanitized = UsernamePasswordAuthenticationToken.authenticated(
+                    principal.withoutPassword(), null, authentication.getAuthorities());
+            sanitized.setDetails(authentication.getDetails());
+            authentication = sanitized;
+        }
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        // 세션 모드에서는 세션에 저장되고, 토큰 모드에서는 현재 요청 범위에만 남는다
+        securityContextRepository.saveContext(context, request, response);
+    }
+
+    private static String fingerprint(UserPrincipal principal) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        // 필드마다 길이를 앞에 붙여 값의 경계가 바뀌어도 같은 입력이 되지 않게 한다
+        for (Object field : new Object[] {principal.getId(), principal.getEmail(), principal.getDisplayName(),
+                principal.getProvider(), principal.getRole()}) {
+            byte[] bytes = String.valueOf(field).getBytes(StandardCharsets.UTF_8);
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+            digest.update(bytes);
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    private AuthResponse respond(UserPrincipal principal) {
+        AuthResponse response = AuthResponse.from(principal);
+        return tokenService.isEnabled() ? response.withTokens(tokenService.issue(principal)) : response;
+    }
 }
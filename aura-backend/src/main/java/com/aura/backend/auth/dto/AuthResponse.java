@@ -3,19 +3,26 @@ package com.aura.backend.auth.dto;
 import com.aura.backend.security.UserPrincipal;
 import com.aura.backend.user.AuthProvider;
 import com.aura.backend.user.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 public record AuthResponse(
         Long id,
         String email,
         String displayName,
-        AuthProvider provider
+        AuthProvider provider,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        AuthTokens tokens
 ) {
     public static AuthResponse from(User user) {
-        return new AuthResponse(user.getId(), user.getEmail(), user.getDisplayName(), user.getProvider());
+        return new AuthResponse(user.getId(), user.getEmail(), user.getDisplayName(), user.getProvider(), null);
     }
 
     public static AuthResponse from(UserPrincipal principal) {
         return new AuthResponse(principal.getId(), principal.getEmail(), principal.getDisplayName(),
-                AuthProvider.valueOf(principal.getProvider()));
+                AuthProvider.valueOf(principal.getProvider()), null);
+    }
+
+    public AuthResponse withTokens(AuthTokens tokens) {
+        return new AuthResponse(id, email, displayName, provider, tokens);
     }
 }
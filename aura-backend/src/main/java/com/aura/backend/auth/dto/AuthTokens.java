@@ -0,0 +1,9 @@
+package com.aura.backend.auth.dto;
+
+public record AuthTokens(
+        String tokenType,
+        String accessToken,
+        long expiresIn,
+        String refreshToken
+) {
+}
@@ -0,0 +1,22 @@
+package com.aura.backend.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 프론트엔드가 제공자 인가 화면에서 받아 온 코드. 토큰 교환은 서버가 client secret으로 직접 한다.
+ *
+ * @param codeVerifier PKCE를 썼다면 그 code_verifier
+ * @param state        네이버는 토큰 교환에도 state를 요구한다
+ */
+public record SocialLoginRequest(
+        @NotBlank(message = "인가 코드는 필수입니다.")
+        String code,
+
+        @NotBlank(message = "redirectUri는 필수입니다.")
+        String redirectUri,
+
+        String codeVerifier,
+
+        String state
+) {
+}
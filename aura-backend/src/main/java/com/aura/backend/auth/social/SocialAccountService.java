@@ -0,0 +1,51 @@
+package com.aura.backend.auth.social;
+
+import com.aura.backend.user.User;
+import com.aura.backend.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@RequiredArgsConstructor
+public class SocialAccountService {
+
+    private static final int MAX_LENGTH = 100;
+
+    private final UserRepository userRepository;
+
+    /**
+     * (provider, providerId) 유니크 인덱스로 찾고, 없으면 처음 로그인한 것으로 보고 가입시킨다.
+     * 같은 이메일의 다른 계정에 자동으로 연결하지 않는다. 제공자가 이메일 소유를 보증하지 않을 수 있어서다. 이런 경우는 409로 거절한다.
+     */
+    public User findOrCreate(SocialIdentity identity) {
+        return userRepository.findByProviderAndProviderId(identity.provider(), identity.providerId())
+                .orElseGet(() -> create(identity));
+    }
+
+    private User create(SocialIdentity identity) {
+        String email = identity.email();
+        if (email == null || email.isBlank() || email.length() > MAX_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이메일 제공에 동의해야 가입할 수 있습니다.");
+        }
+        String displayName = identity.displayName() == null || identity.displayName().isBlank()
+                ? email.substring(0, Math.max(email.indexOf('@'), 1))
+                : identity.displayName().strip();
+
+        User user = User.builder()
+                .email(email)
+                .displayName(displayName.length() > MAX_LENGTH ? displayName.substring(0, MAX_LENGTH) : displayName)
+                .provider(identity.provider())
+                .providerId(identity.providerId())
+                .build();
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 계정으로 동시에 처음 로그인했다면 먼저 들어간 행을 쓰고, 아니면 이메일이 이미 다른 계정에 있는 것이다
+            return userRepository.findByProviderAndProviderId(identity.provider(), identity.providerId())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT, "이미 다른 방식으로 가입된 이메일입니다."));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.aura.backend.auth.social;
+
+import com.aura.backend.user.AuthProvider;
+
+/**
+ * 제공자가 확인해 준 사용자. providerId는 제공자 안에서만 유일하다.
+ */
+public record SocialIdentity(AuthProvider provider, String providerId, String email, String displayName) {
+}
@@ -0,0 +1,268 @@
+package com.aura.backend.auth.social;
+
+import com.aura.backend.auth.dto.SocialLoginRequest;
+import com.aura.backend.user.AuthProvider;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.json.JsonParseException;
+import org.springframework.boot.json.JsonParser;
+import org.springframework.boot.json.JsonParserFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 인가 코드를 제공자 토큰으로 바꾸고 사용자를 확인한다.
+ *
+ * <p>HTTP 호출은 가상 스레드 실행기를 쓰는 HttpClient로 비동기 전송하고, 연결/응답마다 시간 제한을 건다.
+ * 요청 스레드는 제공자를 기다리지 않는다. 구글과 카카오는 ID 토큰의 서명을 제공자별로 캐시한 키 세트로 검증한다.
+ * 키 세트는 jwkSetTtl이 지나기 전에 백그라운드로 갱신되고, 모르는 kid가 오면 곧바로 다시 받는다.
+ * 그래서 평소 검증은 네트워크 없이 CPU로만 끝난다. 네이버는 ID 토큰을 주지 않으므로 받은 access 토큰으로 프로필 API를 부른다.
+ */
+@Slf4j
+@Component
+public class SocialLoginClient implements DisposableBean {
+
+    private static final int JWK_SET_SIZE_LIMIT = 64 * 1024;
+
+    private final SocialLoginProperties properties;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("social-login-", 0).factory());
+    private final HttpClient httpClient;
+    private final Map<AuthProvider, SocialLoginProperties.Provider> providers = new EnumMap<>(AuthProvider.class);
+    private final Map<AuthProvider, JwtDecoder> idTokenDecoders = new EnumMap<>(AuthProvider.class);
+    private final JsonParser jsonParser = JsonParserFactory.getJsonParser();
+
+    public SocialLoginClient(SocialLoginProperties properties) {
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(executor)
+                .build();
+        if (properties.providers() == null) {
+            return;
+        }
+        properties.providers().forEach((name, provider) -> {
+            AuthProvider authProvider = AuthProvider.valueOf(name.toUpperCase(Locale.ROOT));
+            if (authProvider == AuthProvider.LOCAL || !provider.isEnabled()) {
+                return;
+            }
+            providers.put(authProvider, provider);
+            if (provider.jwkSetUri() != null && !provider.jwkSetUri().isBlank()) {
+                idTokenDecoders.put(authProvider, idTokenDecoder(provider));
+            }
+        });
+    }
+
+    /**
+     * 경로의 제공자 이름을 해석한다. 모르는 제공자이거나 설정되지 않은 제공자는 404.
+     */
+    public AuthProvider resolve(String name) {
+        for (AuthProvider provider : providers.keySet()) {
+            if (provider.name().equalsIgnoreCase(name)) {
+                return provider;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "지원하지 않는 로그인 방식입니다.");
+    }
+
+    public CompletableFuture<SocialIdentity> authenticate(AuthProvider provider, SocialLoginRequest request) {
+        SocialLoginProperties.Provider config = providers.get(provider);
+        JwtDecoder decoder = idTokenDecoders.get(provider);
+        return exchangeCode(config, request).thenCompose(tokens -> decoder != null
+                ? CompletableFuture.supplyAsync(() -> fromIdToken(provider, decoder, tokens), executor)
+                : fetchProfile(provider, config, tokens));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<Map<String, Object>> exchangeCode(SocialLoginProperties.Provider config,
+                                                                SocialLoginRequest request) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("grant_type", "authorization_code");
+        form.put("code", request.code());
+        form.put("redirect_uri", request.redirectUri());
+        form.put("client_id", config.clientId());
+        form.put("client_secret", config.clientSecret());
+        if (request.codeVerifier() != null) {
+            form.put("code_verifier", request.codeVerifier());
+        }
+        if (request.state() != null) {
+            form.put("state", request.state());
+        }
+        String body = form.entrySet().stream()
+                .filter(entry -> entry.getValue() != null)
+                .map(entry -> encode(entry.getKey()) + "=" + encode(entry.getValue()))
+                .collect(Collectors.joining("&"));
+
+        return send(HttpRequest.newBuilder(URI.create(config.tokenUri()))
+                .timeout(properties.requestTimeout())
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private SocialIdentity fromIdToken(AuthProvider provider, JwtDecoder decoder, Map<String, Object> tokens) {
+        if (!(tokens.get("id_token") instanceof String idToken)) {
+            throw rejected();
+        }
+        Jwt jwt;
+        try {
+            jwt = decoder.decode(idToken);
+        } catch (JwtException e) {
+            log.warn("{} ID 토큰 검증 실패: {}", provider, e.getMessage());
+            throw rejected();
+        }
+        Object verified = jwt.getClaims().get("email_verified");
+        String email = Boolean.FALSE.equals(verified) || "false".equals(verified) ? null : jwt.getClaimAsString("email");
+        return new SocialIdentity(provider, jwt.getSubject(), email,
+                firstNonBlank(jwt.getClaimAsString("name"), jwt.getClaimAsString("nickname")));
+    }
+
+    private CompletableFuture<SocialIdentity> fetchProfile(AuthProvider provider, SocialLoginProperties.Provider config,
+                                                           Map<String, Object> tokens) {
+        if (!(tokens.get("access_token") instanceof String accessToken)) {
+            return CompletableFuture.failedFuture(rejected());
+        }
+        return send(HttpRequest.newBuilder(URI.create(config.userInfoUri()))
+                .timeout(properties.requestTimeout())
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Accept", "application/json")
+                .GET()
+                .build())
+                .thenApply(body -> {
+                    // 네이버 프로필 응답: {"resultcode": "00", "response": {"id", "email", "name", "nickname"}}
+                    if (!(body.get("response") instanceof Map<?, ?> profile) || !(profile.get("id") instanceof String id)) {
+                        throw rejected();
+                    }
+                    return new SocialIdentity(provider, id, asString(profile.get("email")),
+                            firstNonBlank(asString(profile.get("name")), asString(profile.get("nickname"))));
+                });
+    }
+
+    /**
+     * 200이 아니거나 JSON이 아니면 401, 시간 초과는 504, 그 밖의 전송 오류는 502로 바꾼다.
+     * 오류 응답이어도 200을 주는 제공자가 있어 error 필드도 실패로 본다.
+     */
+    private CompletableFuture<Map<String, Object>> send(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        throw translate(request, failure);
+                    }
+                    if (response.statusCode() != 200) {
+                        log.warn("소셜 로그인 제공자 응답 {} ({})", response.statusCode(), request.uri().getHost());
+                        throw rejected();
+                    }
+                    Map<String, Object> body;
+                    try {
+                        body = jsonParser.parseMap(response.body());
+                    } catch (JsonParseException e) {
+                        throw rejected();
+                    }
+                    if (body.get("error") != null) {
+                        log.warn("소셜 로그인 제공자 오류 {} ({})", body.get("error"), request.uri().getHost());
+                        throw rejected();
+                    }
+                    return body;
+                });
+    }
+
+    private JwtDecoder idTokenDecoder(SocialLoginProperties.Provider provider) {
+        int timeoutMillis = (int) properties.requestTimeout().toMillis();
+        JWKSource<SecurityContext> keys;
+        try {
+            keys = JWKSourceBuilder.<SecurityContext>create(URI.create(provider.jwkSetUri()).toURL(),
+                            new DefaultResourceRetriever((int) properties.connectTimeout().toMillis(), timeoutMillis,
+                                    JWK_SET_SIZE_LIMIT))
+                    .cache(properties.jwkSetTtl().toMillis(), timeoutMillis)
+                    .refreshAheadCache(true)
+                    .build();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("잘못된 jwk-set-uri: " + provider.jwkSetUri(), e);
+        }
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, keys));
+        // 만료, 발급자, 대상 검증은 아래 Spring 검증기가 맡는다
+        processor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+        List<String> issuers = provider.issuers() == null ? List.of() : provider.issuers();
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefault(),
+                new JwtClaimValidator<String>(JwtClaimNames.ISS, issuers::contains),
+                new JwtClaimValidator<List<String>>(JwtClaimNames.AUD,
+                        audience -> audience != null && audience.contains(provider.clientId()))));
+        return decoder;
+    }
+
+    private static RuntimeException translate(HttpRequest request, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (cause instanceof HttpTimeoutException) {
+            log.warn("소셜 로그인 제공자 응답 시간 초과 ({})", request.uri().getHost());
+            return new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "소셜 로그인 제공자가 응답하지 않습니다.");
+        }
+        if (cause instanceof IOException) {
+            log.warn("소셜 로그인 제공자 연결 실패 ({}): {}", request.uri().getHost(), cause.getMessage());
+            return new ResponseStatusException(HttpStatus.BAD_GATEWAY, "소셜 로그인 제공자에 연결하지 못했습니다.");
+        }
+        return cause instanceof RuntimeException runtimeException ? runtimeException : new CompletionException(cause);
+    }
+
+    private static ResponseStatusException rejected() {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "소셜 로그인에 실패했습니다.");
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String asString(Object value) {
+        return value instanceof String string ? string : null;
+    }
+
+    private static String firstNonBlank(String first, String second) {
+        return first != null && !first.isBlank() ? first : second;
+    }
+}
@@ -0,0 +1,39 @@
+package com.aura.backend.auth.social;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param connectTimeout 제공자 서버 연결 시간 제한
+ * @param requestTimeout 제공자 요청 하나(토큰 교환, 프로필 조회, 키 세트 조회)의 응답 시간 제한
+ * @param jwkSetTtl      서명 키 세트를 다시 받아 오는 주기. 만료 전에 백그라운드로 갱신하고, 모르는 kid가 오면 바로 다시 받는다
+ * @param providers      google, kakao, naver. clientId가 비어 있는 제공자는 꺼진 것으로 본다
+ */
+@ConfigurationProperties("aura.auth.social")
+public record SocialLoginProperties(
+        Duration connectTimeout,
+        Duration requestTimeout,
+        Duration jwkSetTtl,
+        Map<String, Provider> providers
+) {
+
+    /**
+     * @param jwkSetUri   OIDC 제공자(구글, 카카오)의 ID 토큰 서명 키 세트
+     * @param issuers     ID 토큰 iss로 허용하는 값
+     * @param userInfoUri ID 토큰이 없는 제공자(네이버)의 프로필 API
+     */
+    public record Provider(
+            String clientId,
+            String clientSecret,
+            String tokenUri,
+            String jwkSetUri,
+            List<String> issuers,
+            String userInfoUri
+    ) {
+        public boolean isEnabled() {
+            return clientId != null && !clientId.isBlank();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.aura.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * CORS 프리플라이트(OPTIONS + Origin + Access-Control-Request-Method)를 서블릿 필터 맨 앞에서 바로 응답한다.
+ * 보안 필터 체인, 세션 조회, 핸들러 매핑을 거치지 않고, 응답 헤더 값은 생성 시점에 미리 만들어 둔다.
+ * 실제 요청의 CORS 헤더는 같은 CorsConfiguration으로 Spring Security의 CorsFilter가 붙인다.
+ */
+public class CorsPreflightFilter extends OncePerRequestFilter {
+
+    private static final String VARY_VALUE = String.join(", ", HttpHeaders.ORIGIN,
+            HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+    private static final byte[] REJECTED_BODY = "Invalid CORS request".getBytes(StandardCharsets.UTF_8);
+
+    private final String pathPrefix;
+    private final CorsConfiguration configuration;
+    private final Set<String> allowedOrigins;
+    private final Set<String> allowedMethods;
+    private final boolean anyHeader;
+    private final String allowMethodsValue;
+    private final String allowHeadersValue;
+    private final String maxAgeValue;
+    private final boolean allowCredentials;
+
+    public CorsPreflightFilter(String pathPrefix, CorsConfiguration configuration) {
+        this.pathPrefix = pathPrefix;
+        this.configuration = configuration;
+        this.allowedOrigins = Set.copyOf(nullToEmpty(configuration.getAllowedOrigins()));
+        this.allowedMethods = Set.copyOf(nullToEmpty(configuration.getAllowedMethods()));
+        List<String> headers = nullToEmpty(configuration.getAllowedHeaders());
+        this.anyHeader = headers.contains(CorsConfiguration.ALL);
+        this.allowMethodsValue = String.join(", ", allowedMethods);
+        this.allowHeadersValue = String.join(", ", headers);
+        this.maxAgeValue = configuration.getMaxAge() == null ? null : configuration.getMaxAge().toString();
+        this.allowCredentials = Boolean.TRUE.equals(configuration.getAllowCredentials());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"OPTIONS".equals(request.getMethod())
+                || request.getHeader(HttpHeaders.ORIGIN) == null
+                || request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD) == null
+                || !request.getRequestURI().startsWith(pathPrefix, request.getContextPath().length());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws IOException {
+        response.setHeader(HttpHeaders.VARY, VARY_VALUE);
+
+        String origin = request.getHeader(HttpHeaders.ORIGIN);
+        // 정확히 일치하는 Origin은 집합 조회로 끝내고, 패턴/와일드카드 설정일 때만 CorsConfiguration에 맡긴다
+        String allowOrigin = allowedOrigins.contains(origin) ? origin : configuration.checkOrigin(origin);
+        String method = request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD);
+        String requestedHeaders = request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+        if (allowOrigin == null || !allowedMethods.contains(method) || !headersAllowed(requestedHeaders)) {
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            response.getOutputStream().write(REJECTED_BODY);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, allowOrigin);
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, allowMethodsValue);
+        if (requestedHeaders != null && !requestedHeaders.isBlank()) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, anyHeader ? requestedHeaders : allowHeadersValue);
+        }
+        if (allowCredentials) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
+        }
+        if (maxAgeValue != null) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE, maxAgeValue);
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+    }
+
+    private boolean headersAllowed(String requestedHeaders) {
+        if (anyHeader || requestedHeaders == null || requestedHeaders.isBlank()) {
+            return true;
+        }
+        List<String> requested = Arrays.stream(requestedHeaders.split(","))
+                .map(header -> header.strip().toLowerCase(Locale.ROOT))
+                .filter(header -> !header.isEmpty())
+                .toList();
+        List<String> allowed = configuration.checkHeaders(requested);
+        return allowed != null && allowed.size() == requested.size();
+    }
+
+    private static List<String> nullToEmpty(List<String> values) {
+        return values == null ? List.of() : values;
+    }
+}
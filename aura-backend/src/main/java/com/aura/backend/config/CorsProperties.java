@@ -0,0 +1,25 @@
+package com.aura.backend.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * /api/** 에 적용되는 CORS 규칙. 프리플라이트 fast path와 Spring Security의 CorsFilter가 같은 값을 쓴다.
+ *
+ * @param allowedOrigins    허용할 Origin (정확히 일치), 쉼표로 구분해 환경 변수로도 지정할 수 있다
+ * @param exposedHeaders    브라우저 스크립트에서 읽을 수 있게 할 응답 헤더
+ * @param maxAge            브라우저가 프리플라이트 결과를 캐시하는 시간
+ * @param preflightFastPath true면 프리플라이트를 보안 필터 체인과 DispatcherServlet 앞에서 바로 응답한다
+ */
+@ConfigurationProperties("aura.cors")
+public record CorsProperties(
+        List<String> allowedOrigins,
+        List<String> allowedMethods,
+        List<String> allowedHeaders,
+        List<String> exposedHeaders,
+        boolean allowCredentials,
+        Duration maxAge,
+        boolean preflightFastPath
+) {
+}
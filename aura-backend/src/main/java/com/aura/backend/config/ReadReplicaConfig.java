@@ -0,0 +1,71 @@
+package com.aura.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * aura.datasource.replica.jdbc-url이 있으면 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본 풀로,
+ * 나머지는 primary 풀로 보낸다. 커넥션은 첫 SQL 시점에 트랜잭션의 readOnly 여부를 보고 고르므로
+ * 서비스 코드는 트랜잭션 속성만 정확히 달면 된다.
+ *
+ * <p>두 풀은 이름(primary, replica)으로 구분되어 hikaricp.* 메트릭의 pool 태그로 따로 보인다.
+ * 복제본은 비동기로 따라오므로, 방금 쓴 데이터를 바로 읽어야 하는 코드는 쓰기 트랜잭션 안에서 읽어야 한다.
+ * 로그인 시 사용자 조회(CustomUserDetailsService)와 최근 노트 스냅샷(RecentNotesCache)이 그런 경우라 primary에서 읽는다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "aura.datasource.replica", name = "jdbc-url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(@Value("${spring.datasource.url}") String url,
+                                       @Value("${spring.datasource.username}") String username,
+                                       @Value("${spring.datasource.password}") String password,
+                                       @Value("${spring.datasource.driver-class-name}") String driverClassName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("primary");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(driverClassName);
+        return dataSource;
+    }
+
+    /**
+     * jdbc-url, username, password와 Hikari 풀 설정(maximum-pool-size 등)을 aura.datasource.replica.* 에서 바로 받는다.
+     */
+    @Bean
+    @ConfigurationProperties("aura.datasource.replica")
+    HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                          @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+                          @Value("${aura.datasource.replica-retry-after:30s}") Duration retryAfter,
+                          MeterRegistry meterRegistry) {
+        return routingDataSource(primaryDataSource,
+                new ReplicaFailoverDataSource(replicaDataSource, primaryDataSource, retryAfter, meterRegistry));
+    }
+
+    static DataSource routingDataSource(DataSource primary, DataSource readOnly) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(readOnly);
+        return routing;
+    }
+}
@@ -0,0 +1,69 @@
+package com.aura.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * 읽기 전용 트랜잭션에 쓰이는 DataSource. 복제본에서 커넥션을 얻지 못하면 primary로 대신 처리하고,
+ * retryAfter 동안은 복제본을 건너뛴다 (장애 중인 복제본 때문에 요청마다 커넥션 타임아웃을 기다리지 않도록).
+ *
+ * <p>aura.datasource.replica.fallback(primary로 넘긴 횟수)과 aura.datasource.replica.available 게이지를 기록한다.
+ */
+@Slf4j
+public class ReplicaFailoverDataSource extends AbstractDataSource {
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final long retryAfterNanos;
+    private final Counter fallback;
+
+    private volatile long unavailableUntil;
+    private volatile boolean unavailable;
+
+    public ReplicaFailoverDataSource(DataSource replica, DataSource primary, Duration retryAfter,
+                                     MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.primary = primary;
+        this.retryAfterNanos = retryAfter.toNanos();
+        this.fallback = meterRegistry.counter("aura.datasource.replica.fallback");
+        Gauge.builder("aura.datasource.replica.available", this, dataSource -> dataSource.unavailable ? 0 : 1)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (unavailable && System.nanoTime() - unavailableUntil < 0) {
+            fallback.increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            if (unavailable) {
+                unavailable = false;
+                log.info("읽기 복제본 연결이 복구되었습니다.");
+            }
+            return connection;
+        } catch (SQLException e) {
+            if (!unavailable) {
+                log.warn("읽기 복제본에 연결할 수 없어 {}초 동안 primary로 읽습니다: {}",
+                        Duration.ofNanos(retryAfterNanos).toSeconds(), e.getMessage());
+            }
+            unavailableUntil = System.nanoTime() + retryAfterNanos;
+            unavailable = true;
+            fallback.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+}
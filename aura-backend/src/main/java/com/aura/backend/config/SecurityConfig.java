@@ -1,55 +1,122 @@
 package com.aura.backend.config;
 
+import com.aura.backend.audit.AuthEventJournal;
+import com.aura.backend.audit.AuthEventType;
+import com.aura.backend.security.BoundedPasswordEncoder;
 import com.aura.backend.security.CustomUserDetailsService;
+import com.aura.backend.security.PasswordHashingProperties;
+import com.aura.backend.security.TokenService;
+import com.aura.backend.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import java.util.List;
-
+/**
+ * 애플리케이션의 유일한 보안 필터 체인과 CORS 설정.
+ * CORS 프리플라이트는 체인 앞의 CorsPreflightFilter가 먼저 응답하고, 실제 요청의 CORS 헤더는 체인 안의 CorsFilter가 붙인다.
+ */
 @Configuration
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String API_PATH_PREFIX = "/api/";
+
     private final CustomUserDetailsService userDetailsService;
+    private final TokenService tokenService;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final MeterRegistry meterRegistry;
+    private final CorsProperties corsProperties;
+    private final AuthEventJournal authEventJournal;
+    private final Environment environment;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        Integer managementPort = environment.getProperty("management.server.port", Integer.class);
         http
                 .csrf(csrf -> csrf.disable())
-                .cors(cors -> {})
-                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
+                .cors(Customizer.withDefaults())
+                .securityContext(context -> context.securityContextRepository(securityContextRepository()))
+                .sessionManagement(session -> session.sessionCreationPolicy(tokenService.isEnabled()
+                        ? SessionCreationPolicy.STATELESS
+                        : SessionCreationPolicy.IF_REQUIRED))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(HttpMethod.POST, "/api/auth/register", "/api/auth/login").permitAll()
+                        // 스트리밍 응답이 끝날 때의 ASYNC 디스패치는 최초 요청에서 이미 인가를 거쳤다
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/register", "/api/auth/login", "/api/auth/refresh").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/social/*").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health/**").permitAll()
+                        // 관리 포트를 따로 열어 내부망에만 바인딩했다면, 그 포트로 들어온 스크레이프는 인증 없이 허용한다
+                        .requestMatchers(request -> managementPort != null && managementPort > 0
+                                && request.getLocalPort() == managementPort
+                                && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
+                // 인증이 없거나 로그인에 실패하면 403이 아니라 401로 응답한다
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .formLogin(form -> form.disable())
                 .httpBasic(basic -> basic.disable())
                 .logout(logout -> logout
                         .logoutUrl("/api/auth/logout")
+                        .addLogoutHandler(this::recordLogout)
                         .logoutSuccessHandler((request, response, authentication) ->
                                 response.setStatus(HttpServletResponse.SC_OK))
                         .permitAll());
+
+        if (tokenService.isEnabled()) {
+            // 로그아웃은 Bearer 인증 뒤에 AuthController가 처리해야 사용자를 알고 refresh 토큰을 폐기할 수 있다
+            http.logout(logout -> logout.disable());
+            // Bearer 토큰은 서명과 만료만 확인하고 클레임에서 바로 UserPrincipal을 만든다 (DB/세션 조회 없음)
+            http.oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt
+                    .decoder(tokenService.accessTokenDecoder())
+                    .jwtAuthenticationConverter(tokenService::toAuthentication)));
+        }
         return http.build();
     }
 
+    /**
+     * 세션 모드에서는 로그인 결과를 HTTP 세션에, 토큰 모드에서는 현재 요청에만 보관한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public SecurityContextRepository securityContextRepository() {
+        return tokenService.isEnabled()
+                ? new RequestAttributeSecurityContextRepository()
+                : new HttpSessionSecurityContextRepository();
+    }
+
+    /**
+     * 해싱/검증은 전용 풀에서만 실행한다. DaoAuthenticationProvider는 작업 계수가 낮은 해시를 발견하면
+     * 로그인 성공 시 UserDetailsPasswordService를 통해 새 계수로 다시 저장한다.
+     */
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder() {
+        return new BoundedPasswordEncoder(passwordHashingProperties, meterRegistry);
     }
 
     @Bean
@@ -64,13 +131,48 @@ public class SecurityConfig {
 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
-        CorsConfiguration configuration = new CorsConfiguration();
-        configuration.setAllowedOrigins(List.of("http://localhost:5173"));
-        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(List.of("*"));
-        configuration.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
-        source.registerCorsConfiguration("/**", configuration);
+        source.registerCorsConfiguration(API_PATH_PREFIX + "**", corsConfiguration());
         return source;
     }
+
+    @Bean
+    public CorsPreflightFilter corsPreflightFilter() {
+        return new CorsPreflightFilter(API_PATH_PREFIX, corsConfiguration());
+    }
+
+    /**
+     * 프리플라이트 fast path는 모든 필터보다 먼저(시작 시간 측정 필터 다음) 실행된다.
+     */
+    @Bean
+    public FilterRegistrationBean<CorsPreflightFilter> corsPreflightFilterRegistration(CorsPreflightFilter filter) {
+        FilterRegistrationBean<CorsPreflightFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registration.setEnabled(corsProperties.preflightFastPath());
+        return registration;
+    }
+
+    /**
+     * 세션 모드의 로그아웃 기록. 토큰 모드의 로그아웃은 AuthController가 기록한다.
+     */
+    private void recordLogout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        UserPrincipal principal = authentication != null && authentication.getPrincipal() instanceof UserPrincipal user
+                ? user
+                : null;
+        authEventJournal.record(AuthEventType.LOGOUT,
+                principal == null ? null : principal.getId(),
+                principal == null ? null : principal.getEmail(),
+                request.getRemoteAddr());
+    }
+
+    private CorsConfiguration corsConfiguration() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(corsProperties.allowedOrigins());
+        configuration.setAllowedMethods(corsProperties.allowedMethods());
+        configuration.setAllowedHeaders(corsProperties.allowedHeaders());
+        configuration.setExposedHeaders(corsProperties.exposedHeaders());
+        configuration.setAllowCredentials(corsProperties.allowCredentials());
+        configuration.setMaxAge(corsProperties.maxAge());
+        return configuration;
+    }
 }
@@ -0,0 +1,70 @@
+package com.aura.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * JVM 시작부터 준비 완료(ApplicationReadyEvent)까지, 그리고 첫 요청의 응답이 끝날 때까지의 시간을 잰다.
+ * 인스턴스가 실제로 트래픽을 받기까지 걸린 시간(지연 초기화 비용 포함)을 로그와
+ * aura.startup.ready / aura.startup.first.request 게이지로 남긴다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StartupTimingReporter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+
+    private volatile long readyMillis = -1;
+    private volatile long firstRequestMillis = -1;
+
+    public StartupTimingReporter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onReady() {
+        readyMillis = System.currentTimeMillis() - jvmStartMillis;
+        TimeGauge.builder("aura.startup.ready", this, TimeUnit.MILLISECONDS, reporter -> reporter.readyMillis)
+                .description("JVM 시작부터 준비 완료까지")
+                .register(meterRegistry);
+        log.info("JVM 시작 후 {}ms 만에 요청을 받을 준비가 되었습니다.", readyMillis);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (firstRequestSeen.get() || !firstRequestSeen.compareAndSet(false, true)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            firstRequestMillis = System.currentTimeMillis() - jvmStartMillis;
+            TimeGauge.builder("aura.startup.first.request", this, TimeUnit.MILLISECONDS,
+                            reporter -> reporter.firstRequestMillis)
+                    .description("JVM 시작부터 첫 요청 응답 완료까지")
+                    .register(meterRegistry);
+            log.info("JVM 시작 후 {}ms 만에 첫 요청({} {})을 처리했습니다.",
+                    firstRequestMillis, request.getMethod(), request.getRequestURI());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.aura.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션이 실행한 JDBC 문장(배치는 한 번)마다 실행 시간을 aura.db.statement 타이머에 남긴다.
+ * 리포지토리 호출 단위가 아니라 문장 단위라서, 200ms SLO 버킷과 함께 보면 log_slow_query에 찍히는 느린 쿼리 수와 같다.
+ *
+ * <p>hibernate.session.events.auto로 세션마다 새로 만들어지므로 스프링 빈이 아니다.
+ * 스프링 부트가 등록한 레지스트리를 전역 레지스트리(Metrics.globalRegistry)에서 찾는다.
+ * JdbcTemplate으로 직접 실행하는 문장은 포함되지 않는다.
+ */
+public class StatementTimingListener implements SessionEventListener {
+
+    static final String METRIC = "aura.db.statement";
+
+    private final transient Timer statements;
+    private long startedAt;
+
+    public StatementTimingListener() {
+        this(Metrics.globalRegistry);
+    }
+
+    StatementTimingListener(MeterRegistry meterRegistry) {
+        this.statements = Timer.builder(METRIC)
+                .description("Hibernate가 실행한 JDBC 문장(배치 포함) 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statements.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        statements.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,76 @@
+package com.aura.backend.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * virtual-threads 프로필에서 jdk.VirtualThreadPinned JFR 이벤트를 구독한다.
+ * synchronized 블록 안에서 I/O를 기다리는 코드가 캐리어 스레드를 붙잡으면 처리량이 플랫폼 스레드 수준으로 떨어지므로,
+ * 임계값을 넘는 pinning을 발생 위치와 함께 기록한다.
+ *
+ * <p>관찰 전용이다. pinning을 막거나 요청을 제한하지 않으며, 경고 로그와 pinnedCount만 남긴다.
+ * 고치는 것은 로그에 찍힌 위치의 코드를 바꾸는 일이다.
+ */
+@Slf4j
+@Component
+@Profile("virtual-threads")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final LongAdder pinnedCount = new LongAdder();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${aura.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 pinning 감시 시작 (임계값 {}ms)", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    public long pinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        StringBuilder frames = new StringBuilder();
+        if (event.getStackTrace() != null) {
+            event.getStackTrace().getFrames().stream()
+                    .limit(LOGGED_FRAMES)
+                    .map(RecordedFrame::getMethod)
+                    .forEach(method -> frames.append("\n\tat ")
+                            .append(method.getType().getName()).append('.').append(method.getName()));
+        }
+        log.warn("가상 스레드가 {}ms 동안 캐리어 스레드에 고정되었습니다.{}", event.getDuration().toMillis(), frames);
+    }
+}
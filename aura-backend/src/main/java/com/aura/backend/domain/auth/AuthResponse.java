@@ -1,15 +0,0 @@
-package com.aura.backend.domain.auth;
-
-import lombok.*;
-
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
-public class AuthResponse {
-    private String message;
-    private String token;
-    private String email;
-    private String displayName;
-}
@@ -1,47 +0,0 @@
-package com.aura.backend.global.config;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.web.cors.CorsConfiguration;
-import org.springframework.web.cors.CorsConfigurationSource;
-import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
-
-import java.util.Arrays;
-
-@Configuration
-public class SpringSecurity {
-    @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-        http
-                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
-                .csrf(csrf -> csrf.disable())
-                .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/auth/**").permitAll()
-                        .anyRequest().authenticated()
-                );
-
-        return http.build();
-    }
-
-    @Bean
-    public CorsConfigurationSource corsConfigurationSource() {
-        CorsConfiguration configuration = new CorsConfiguration();
-
-        // 허용할 프론트엔드 주소 (리액트)를 적어줘요.
-        configuration.setAllowedOrigins(Arrays.asList("http://localhost:5173"));
-        // 어떤 방식(GET, POST 등)으로 데이터를 보낼지 허용해줘요.
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        // 어떤 머리말(Header)을 담아서 보낼지 허용해줘요.
-        configuration.setAllowedHeaders(Arrays.asList("*"));
-        // 쿠키나 인증 정보를 주고받을 수 있게 허락해줘요.
-        configuration.setAllowCredentials(true);
-
-        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
-        // 모든 주소(/**)에 이 규칙을 적용할게요.
-        source.registerCorsConfiguration("/**", configuration);
-        return source;
-    }
-
-}
@@ -2,12 +2,18 @@ package com.aura.backend.note;
 
 import java.time.LocalDateTime;
 
+import com.aura.backend.user.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,17 +21,27 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "notes")
+@Table(name = "notes", indexes = {
+        @Index(name = "idx_note_created_at_id", columnList = "created_at desc, id desc"),
+        @Index(name = "idx_note_owner_created_at_id", columnList = "owner_id, created_at desc, id desc")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Note {
     
+    // IDENTITY는 insert마다 id를 받아와야 해서 JDBC 배치가 꺼진다. 시퀀스를 50개씩 미리 할당받아(pooled) 배치 insert를 쓴다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "note_id_seq")
+    @SequenceGenerator(name = "note_id_seq", sequenceName = "note_id_seq", allocationSize = 50)
     private Long id;
 
+    // 소유자가 생기기 전에 저장된 노트가 있어 nullable로 둔다. 그런 노트는 어느 사용자의 목록에도 나오지 않는다.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_id")
+    private User owner;
+
     @Column(nullable = false, length = 200)
     private String title;
 
@@ -1,13 +1,27 @@
 package com.aura.backend.note;
 
+import com.aura.backend.security.UserPrincipal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.util.HtmlUtils;
 
 @RestController
 @RequestMapping("/api/notes")
@@ -15,18 +29,92 @@ import org.springframework.web.bind.annotation.RestController;
 public class NoteController {
 
     private final NoteService noteService;
+    private final NoteExporter noteExporter;
+    private final Optional<NoteWriteBehindQueue> writeBehindQueue;
+    private final NoteFeedBroadcaster noteFeedBroadcaster;
 
+    /**
+     * ETag는 실제로 돌려줄 페이지 내용으로 만들므로 본문과 ETag가 항상 같은 출처(최근 노트 캐시 또는 DB)에서 나온다.
+     * 첫 페이지는 대개 최근 노트 캐시로 답하므로 바뀌지 않은 목록의 재검증은 DB 없이 304로 끝난다.
+     * 다른 인스턴스에서 저장된 노트는 그 캐시의 ttl이 지나 다시 읽힐 때 반영되며, 그때까지는 예전 목록과 예전 ETag가 짝을 이룬다.
+     * ETag에 소유자를 넣어 같은 브라우저에서 계정을 바꿔도 다른 사용자의 캐시된 목록이 재사용되지 않게 한다.
+     */
     @GetMapping
-    public List<NoteResponse> getNotes() {
-        return noteService.getAllNotes().stream()
-                .map(NoteResponse::from)
-                .toList();
+    public ResponseEntity<NotePageResponse> getNotes(@AuthenticationPrincipal UserPrincipal principal,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "" + NoteService.DEFAULT_PAGE_SIZE) int limit,
+                                                     WebRequest webRequest) {
+        NoteCursor after = cursor == null ? null : NoteCursor.decode(cursor);
+        NoteService.NotePage page = noteService.getNotes(principal.getId(), after, limit);
+        String etag = "notes-" + principal.getId() + "-" + limit + "-" + (after == null ? "head" : after.encode())
+                + "-" + page.version();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(NotePageResponse.from(page));
+    }
+
+    @GetMapping("/{id:\\d+}")
+    public NoteResponse getNote(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long id) {
+        return NoteResponse.from(noteService.getNote(principal.getId(), id));
+    }
+
+    /**
+     * 내 노트 전체를 한 줄에 하나씩 JSON으로 스트리밍한다. Accept-Encoding: gzip이면 서버 압축이 적용된다.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> export(@AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(noteExporter.export(principal.getId()));
+    }
+
+    /**
+     * 새로 저장된 내 노트를 목록 항목과 같은 모양으로 밀어준다. 재연결 시 Last-Event-ID 이후의 이벤트부터 이어서 보낸다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@AuthenticationPrincipal UserPrincipal principal,
+                                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                // 리버스 프록시가 이벤트를 모아 두지 않게 한다
+                .header("X-Accel-Buffering", "no")
+                .body(noteFeedBroadcaster.subscribe(principal.getId(), lastEventId));
+    }
+
+    @GetMapping("/search")
+    public NoteSearchResponse search(@AuthenticationPrincipal UserPrincipal principal,
+                                     @RequestParam("q") String query,
+                                     @RequestParam(defaultValue = "0") int page,
+                                     @RequestParam(defaultValue = "" + NoteService.DEFAULT_PAGE_SIZE) int size) {
+        List<NoteSearchHit> hits = noteService.search(principal.getId(), query, page, size);
+        return new NoteSearchResponse(hits.stream().map(SearchHitResponse::from).toList(), page);
     }
 
+    /**
+     * write-behind가 켜져 있으면 저장을 기다리지 않고 202와 임시 id를 돌려준다. 저장된 노트는 목록에 곧 나타난다.
+     */
     @PostMapping
-    public NoteResponse createNote(@RequestBody CreateNoteRequest request) {
-        Note note = noteService.createNote(request.title(), request.content());
-        return NoteResponse.from(note);
+    public ResponseEntity<?> createNote(@AuthenticationPrincipal UserPrincipal principal,
+                                        @RequestBody CreateNoteRequest request) {
+        if (writeBehindQueue.isPresent()) {
+            NoteWriteBehindQueue.PendingNote pending =
+                    writeBehindQueue.get().enqueue(principal.getId(), request.title(), request.content());
+            return ResponseEntity.accepted().body(new AcceptedNoteResponse(pending.provisionalId(), "QUEUED"));
+        }
+        Note note = noteService.createNote(principal.getId(), request.title(), request.content());
+        return ResponseEntity.ok(NoteResponse.from(note));
+    }
+
+    @PostMapping("/batch")
+    public BatchCreateResponse createNotes(@AuthenticationPrincipal UserPrincipal principal,
+                                           @RequestBody List<CreateNoteRequest> requests) {
+        List<NoteService.NoteDraft> drafts = requests.stream()
+                .map(request -> request == null ? null : new NoteService.NoteDraft(request.title(), request.content()))
+                .toList();
+        return BatchCreateResponse.from(noteService.createNotes(principal.getId(), drafts));
     }
 
     public record CreateNoteRequest(String title, String content) {
@@ -42,4 +130,70 @@ public class NoteController {
                     note.getCreatedAt());
         }
     }
-}
\ No newline at end of file
+
+    public record AcceptedNoteResponse(UUID provisionalId, String status) {
+    }
+
+    public record BatchItemResponse(int index, String status, Long id, String error) {
+
+        public static BatchItemResponse from(NoteService.BatchItemResult result) {
+            return result.note() != null
+                    ? new BatchItemResponse(result.index(), "CREATED", result.note().getId(), null)
+                    : new BatchItemResponse(result.index(), "REJECTED", null, result.error());
+        }
+    }
+
+    public record BatchCreateResponse(int created, int rejected, List<BatchItemResponse> results) {
+
+        public static BatchCreateResponse from(List<NoteService.BatchItemResult> results) {
+            List<BatchItemResponse> items = results.stream().map(BatchItemResponse::from).toList();
+            int created = (int) items.stream().filter(item -> item.id() != null).count();
+            return new BatchCreateResponse(created, items.size() - created, items);
+        }
+    }
+
+    public record NoteSummaryResponse(Long id, String title, String preview, boolean truncated, LocalDateTime createdAt) {
+
+        public static NoteSummaryResponse from(NoteSummary summary) {
+            return new NoteSummaryResponse(
+                    summary.id(),
+                    summary.title(),
+                    summary.trimmedPreview(),
+                    summary.truncated(),
+                    summary.createdAt());
+        }
+    }
+
+    public record NotePageResponse(List<NoteSummaryResponse> items, String nextCursor) {
+
+        public static NotePageResponse from(NoteService.NotePage page) {
+            return new NotePageResponse(
+                    page.notes().stream().map(NoteSummaryResponse::from).toList(),
+                    page.nextCursor() == null ? null : page.nextCursor().encode());
+        }
+    }
+
+    public record SearchHitResponse(Long id, String title, String snippet, double rank, LocalDateTime createdAt) {
+
+        public static SearchHitResponse from(NoteSearchHit hit) {
+            return new SearchHitResponse(
+                    hit.getId(),
+                    hit.getTitle(),
+                    highlight(hit.getSnippet()),
+                    hit.getRank(),
+                    hit.getCreatedAt());
+        }
+
+        private static String highlight(String snippet) {
+            if (snippet == null) {
+                return null;
+            }
+            return HtmlUtils.htmlEscape(snippet)
+                    .replace(NoteService.HIGHLIGHT_START, "<mark>")
+                    .replace(NoteService.HIGHLIGHT_STOP, "</mark>");
+        }
+    }
+
+    public record NoteSearchResponse(List<SearchHitResponse> items, int page) {
+    }
+}
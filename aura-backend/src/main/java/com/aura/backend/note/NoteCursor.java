@@ -0,0 +1,41 @@
+package com.aura.backend.note;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 목록 페이지 경계를 나타내는 커서. (createdAt, id) 쌍을 불투명한 문자열로 주고받는다.
+ */
+public record NoteCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static NoteCursor of(Note note) {
+        return new NoteCursor(note.getCreatedAt(), note.getId());
+    }
+
+    public static NoteCursor of(NoteSummary summary) {
+        return new NoteCursor(summary.createdAt(), summary.id());
+    }
+
+    public static NoteCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new NoteCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
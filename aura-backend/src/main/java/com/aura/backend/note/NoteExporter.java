@@ -0,0 +1,129 @@
+package com.aura.backend.note;
+
+import com.aura.backend.note.NoteController.NoteResponse;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+/**
+ * 한 사용자의 노트 전체를 NDJSON으로 내보낸다. 순방향 JDBC 커서(fetch size)로 읽으면서 바로 응답에 쓰고,
+ * 읽은 엔티티는 즉시 영속성 컨텍스트에서 떼어 내므로 힙 사용량은 행 수와 무관하다.
+ *
+ * <p>내보내기 한 건이 끝날 때까지 DB 커넥션 하나를 붙잡으므로, 동시에 실행되는 내보내기 수를 maxConcurrent로 제한한다.
+ * 대기열은 두지 않는다. 허가를 얻지 못한 요청은 기다리지 않고 바로 503을 받는다.
+ */
+@Slf4j
+@Component
+public class NoteExporter implements DisposableBean {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final NoteRepository noteRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("note-export-", 0).factory());
+    private final long timeoutMillis;
+
+    public NoteExporter(NoteRepository noteRepository,
+                        EntityManager entityManager,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${aura.notes.export.max-concurrent:2}") int maxConcurrent,
+                        @Value("${aura.notes.export.timeout:30m}") Duration timeout) {
+        this.noteRepository = noteRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.permits = new Semaphore(maxConcurrent);
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public ResponseBodyEmitter export(Long ownerId) {
+        if (!permits.tryAcquire()) {
+            throw busy();
+        }
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        try {
+            executor.execute(() -> {
+                try {
+                    writeAll(ownerId, emitter);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw busy();
+        }
+        return emitter;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void writeAll(Long ownerId, ResponseBodyEmitter emitter) {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Note> notes = noteRepository.streamByOwnerIdOrderByCreatedAtDescIdDesc(ownerId)) {
+                    // 행마다 flush하지 않도록 FLUSH_EVERY 건씩 모아서 한 번에 쓴다 (send(Set)은 마지막에 한 번만 flush)
+                    Set<DataWithMediaType> chunk = new LinkedHashSet<>();
+                    notes.forEach(note -> {
+                        chunk.add(new DataWithMediaType(NoteResponse.from(note), MediaType.APPLICATION_JSON));
+                        chunk.add(new DataWithMediaType("\n", MediaType.TEXT_PLAIN));
+                        entityManager.detach(note);
+                        if (chunk.size() >= FLUSH_EVERY * 2) {
+                            send(emitter, chunk);
+                        }
+                    });
+                    send(emitter, chunk);
+                }
+            });
+            emitter.complete();
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우: 커서와 트랜잭션은 위에서 이미 정리되었다
+            log.debug("노트 내보내기 중단: {}", e.getMessage());
+            emitter.completeWithError(e.getCause());
+        } catch (RuntimeException e) {
+            log.warn("노트 내보내기 실패", e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private static ResponseStatusException busy() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private static void send(ResponseBodyEmitter emitter, Set<DataWithMediaType> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            emitter.send(chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        chunk.clear();
+    }
+}
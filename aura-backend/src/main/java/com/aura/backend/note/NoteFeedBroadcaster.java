@@ -0,0 +1,277 @@
+package com.aura.backend.note;
+
+import com.aura.backend.note.NoteController.NoteSummaryResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 커밋된 노트를 소유자의 SSE 구독자에게 밀어준다.
+ *
+ * <p>유휴 연결은 스레드를 점유하지 않는다. 구독자마다 크기가 제한된 대기열만 있고, 보낼 것이 생겼을 때만
+ * 가상 스레드 하나가 그 대기열을 비운다. 대기열이 넘치는 구독자는 느린 소비자로 보고 연결을 끊으며,
+ * 클라이언트는 Last-Event-ID로 다시 연결해 놓친 이벤트를 최근 replaySize건 안에서 이어 받는다.
+ * 그보다 오래된 지점(또는 다른 인스턴스/재시작 전의 id)에서 재연결하면 reset 이벤트를 보내 목록을 다시 읽게 한다.
+ *
+ * <p>aura.notes.stream.subscribers, .evicted, .resets를 기록한다.
+ */
+@Slf4j
+@Component
+public class NoteFeedBroadcaster implements DisposableBean {
+
+    private final NoteStreamProperties properties;
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeats;
+
+    // 순번 발급, 재전송 버퍼 기록, 구독자 대기열 적재를 한 번에 묶어 재연결 시 이벤트가 빠지거나 겹치지 않게 한다
+    private final ReentrantLock feedLock = new ReentrantLock();
+    private final FeedEvent[] replay;
+    private long lastSequence;
+
+    private final Counter evicted;
+    private final Counter resets;
+
+    @Autowired
+    public NoteFeedBroadcaster(NoteStreamProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("note-feed-", 0).factory()));
+    }
+
+    NoteFeedBroadcaster(NoteStreamProperties properties, MeterRegistry meterRegistry, ExecutorService senders) {
+        this.properties = properties;
+        this.senders = senders;
+        this.replay = new FeedEvent[properties.replaySize()];
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("note-feed-heartbeat").daemon(true).factory());
+        long interval = properties.heartbeatInterval().toMillis();
+        heartbeats.scheduleAtFixedRate(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+
+        this.evicted = meterRegistry.counter("aura.notes.stream.evicted");
+        this.resets = meterRegistry.counter("aura.notes.stream.resets");
+        Gauge.builder("aura.notes.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID, 처음 연결이면 null
+     */
+    public SseEmitter subscribe(Long ownerId, String lastEventId) {
+        if (subscriberCount.incrementAndGet() > properties.maxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        Subscriber subscriber = new Subscriber(ownerId, emitter, new ArrayBlockingQueue<>(properties.bufferSize()));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        feedLock.lock();
+        try {
+            subscribers.computeIfAbsent(ownerId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            if (lastEventId == null) {
+                // 이벤트가 하나도 오기 전에 끊겨도 이어 받을 수 있도록 현재 위치를 먼저 알려준다
+                subscriber.queue().offer(new Ready(lastSequence));
+            } else {
+                replayTo(subscriber, lastEventId);
+            }
+        } finally {
+            feedLock.unlock();
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onNotesCreated(NotesCreatedEvent event) {
+        feedLock.lock();
+        try {
+            for (Note note : event.notes()) {
+                if (note.getOwner() == null) {
+                    continue;
+                }
+                Long ownerId = note.getOwner().getId();
+                FeedEvent feedEvent = new FeedEvent(++lastSequence, ownerId,
+                        NoteSummaryResponse.from(NoteSummary.of(note)));
+                replay[(int) (feedEvent.sequence() % replay.length)] = feedEvent;
+
+                Set<Subscriber> targets = subscribers.get(ownerId);
+                if (targets != null) {
+                    targets.forEach(subscriber -> deliver(subscriber, feedEvent));
+                }
+            }
+        } finally {
+            feedLock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        heartbeats.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter().complete()));
+        senders.shutdownNow();
+    }
+
+    private void replayTo(Subscriber subscriber, String lastEventId) {
+        long oldestAvailable = Math.max(1, lastSequence - replay.length + 1);
+        Long after = parseSequence(lastEventId);
+        if (after == null || after > lastSequence || after + 1 < oldestAvailable) {
+            resets.increment();
+            subscriber.queue().offer(new Reset(lastSequence));
+            return;
+        }
+        for (long sequence = after + 1; sequence <= lastSequence; sequence++) {
+            FeedEvent feedEvent = replay[(int) (sequence % replay.length)];
+            if (feedEvent.ownerId().equals(subscriber.ownerId()) && !subscriber.queue().offer(feedEvent)) {
+                // 놓친 이벤트가 버퍼보다 많으면 하나씩 보내는 것보다 목록을 다시 읽는 편이 낫다
+                subscriber.queue().clear();
+                resets.increment();
+                subscriber.queue().offer(new Reset(lastSequence));
+                return;
+            }
+        }
+    }
+
+    private Long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> deliver(subscriber, Heartbeat.INSTANCE)));
+    }
+
+    private void deliver(Subscriber subscriber, FeedItem item) {
+        if (subscriber.queue().offer(item)) {
+            schedule(subscriber);
+            return;
+        }
+        evicted.increment();
+        log.debug("느린 SSE 구독자 연결 종료 (owner={})", subscriber.ownerId());
+        remove(subscriber);
+        // 완료 처리는 응답을 flush하며 막힐 수 있으므로 feedLock을 쥔 커밋 스레드가 아니라 전송 스레드에서 한다
+        senders.execute(subscriber.emitter()::complete);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * 구독자마다 한 번에 하나의 가상 스레드만 보내도록 draining 플래그로 직렬화한다.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                FeedItem item;
+                while ((item = subscriber.queue().poll()) != null) {
+                    subscriber.emitter().send(toEvent(item));
+                }
+                subscriber.draining().set(false);
+            } while (!subscriber.queue().isEmpty() && subscriber.draining().compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 완료된 연결
+            subscriber.draining().set(false);
+            remove(subscriber);
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(FeedItem item) {
+        return switch (item) {
+            case FeedEvent event -> SseEmitter.event()
+                    .id(epoch + "-" + event.sequence())
+                    .name("note")
+                    .data(event.note());
+            case Ready ready -> SseEmitter.event()
+                    .id(epoch + "-" + ready.sequence())
+                    .name("ready")
+                    .data("");
+            case Reset reset -> SseEmitter.event()
+                    .id(epoch + "-" + reset.sequence())
+                    .name("reset")
+                    .data("");
+            case Heartbeat heartbeat -> SseEmitter.event().comment("heartbeat");
+        };
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed().compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.ownerId(), (ownerId, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private record Subscriber(Long ownerId, SseEmitter emitter, BlockingQueue<FeedItem> queue,
+                              AtomicBoolean draining, AtomicBoolean closed) {
+
+        Subscriber(Long ownerId, SseEmitter emitter, BlockingQueue<FeedItem> queue) {
+            this(ownerId, emitter, queue, new AtomicBoolean(), new AtomicBoolean());
+        }
+
+        // 레코드 기본 equals는 대기열 내용까지 비교하므로 구독자 집합에서는 인스턴스로만 구분한다
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    private sealed interface FeedItem permits FeedEvent, Ready, Reset, Heartbeat {
+    }
+
+    private record FeedEvent(long sequence, Long ownerId, NoteSummaryResponse note) implements FeedItem {
+    }
+
+    private record Ready(long sequence) implements FeedItem {
+    }
+
+    private record Reset(long sequence) implements FeedItem {
+    }
+
+    private enum Heartbeat implements FeedItem {
+        INSTANCE
+    }
+}
@@ -1,9 +1,77 @@
 package com.aura.backend.note;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface NoteRepository extends JpaRepository<Note, Long> {
-    List<Note> findAllByOrderByCreatedAtDesc();
+
+    String SUMMARY_SELECT = "select new com.aura.backend.note.NoteSummary("
+            + "n.id, n.title, substring(n.content, 1, " + NoteSummary.PREVIEW_FETCH_LENGTH + "), n.createdAt) "
+            + "from Note n where n.owner.id = :ownerId ";
+
+    // 모든 목록 조회는 (owner_id, created_at desc, id desc) 인덱스의 한 사용자 구간만 읽는다
+    @Query(SUMMARY_SELECT + "order by n.createdAt desc, n.id desc")
+    List<NoteSummary> findSummaries(@Param("ownerId") Long ownerId, Limit limit);
+
+    @Query(SUMMARY_SELECT + """
+            and (n.createdAt < :createdAt
+                 or (n.createdAt = :createdAt and n.id < :id))
+            order by n.createdAt desc, n.id desc
+            """)
+    List<NoteSummary> findSummariesAfter(@Param("ownerId") Long ownerId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Limit limit);
+
+    Optional<Note> findByIdAndOwnerId(Long id, Long ownerId);
+
+
+    /**
+     * 최근에 노트를 쓴 사용자 순. 기동 시 최근 목록 캐시를 미리 채울 때만 쓴다.
+     */
+    @Query("select n.owner.id from Note n where n.owner.id is not null group by n.owner.id order by max(n.createdAt) desc")
+    List<Long> findRecentlyActiveOwnerIds(Limit limit);
+
+    /**
+     * 내보내기용 순방향 커서. 트랜잭션 안에서만 쓸 수 있고, 사용 후 반드시 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Note> streamByOwnerIdOrderByCreatedAtDescIdDesc(Long ownerId);
+
+    /**
+     * search_vector GIN 인덱스로 후보를 고르고 순위를 매긴 뒤, 잘라낸 페이지에 대해서만 ts_headline을 계산한다.
+     */
+    @Query(nativeQuery = true, value = """
+            select n.id as id, n.title as title, n.created_at as createdAt, hit.rank as rank,
+                   ts_headline('simple', n.content, hit.query, :headlineOptions) as snippet
+            from (
+                select matched.id, ts_rank_cd(matched.search_vector, q) as rank, q as query
+                from notes matched, websearch_to_tsquery('simple', :query) q
+                where matched.search_vector @@ q
+                  and matched.owner_id = :ownerId
+                order by rank desc, matched.id desc
+                limit :limit offset :offset
+            ) hit
+            join notes n on n.id = hit.id
+            order by hit.rank desc, n.id desc
+            """)
+    List<NoteSearchHit> search(@Param("ownerId") Long ownerId,
+                               @Param("query") String query,
+                               @Param("headlineOptions") String headlineOptions,
+                               @Param("limit") int limit,
+                               @Param("offset") int offset);
 }
@@ -0,0 +1,19 @@
+package com.aura.backend.note;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전문 검색 결과 한 건. snippet은 ts_headline이 만든 본문 발췌로, 일치 구간이 하이라이트 구분자로 감싸져 있다.
+ */
+public interface NoteSearchHit {
+
+    Long getId();
+
+    String getTitle();
+
+    LocalDateTime getCreatedAt();
+
+    Double getRank();
+
+    String getSnippet();
+}
@@ -1,24 +1,183 @@
 package com.aura.backend.note;
 
+import com.aura.backend.user.User;
+import com.aura.backend.user.UserRepository;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 @RequiredArgsConstructor
 public class NoteService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int MAX_SEARCH_PAGE_SIZE = 50;
+    public static final int MAX_SEARCH_DEPTH = 1000;
+
+    // ts_headline은 원문을 그대로 돌려주므로 본문에 나올 수 없는 제어 문자로 일치 구간을 표시해 두고,
+    // HTML 이스케이프 이후에 <mark> 태그로 바꾼다.
+    static final String HIGHLIGHT_START = "\u0002";
+    static final String HIGHLIGHT_STOP = "\u0003";
+    private static final String HEADLINE_OPTIONS = "StartSel=" + HIGHLIGHT_START + ", StopSel=" + HIGHLIGHT_STOP
+            + ", MaxFragments=2, MaxWords=20, MinWords=5";
+
     private final NoteRepository noteRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecentNotesCache recentNotesCache;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * createdAt, id 내림차순으로 한 페이지의 요약을 읽는다. 최근 노트 캐시로 답할 수 있으면 DB에 가지 않고,
+     * 아니면 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회한다.
+     * 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션은 저장소 호출에만 건다.
+     * 첫 페이지는 자기가 방금 쓴 노트가 보여야 하므로(ETag 재검증 포함) 캐시 스냅샷처럼 복제본이 아닌 primary에서 읽는다.
+     */
+    public NotePage getNotes(Long ownerId, NoteCursor cursor, int limit) {
+        int size = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        NotePage cached = recentNotesCache.page(ownerId, cursor, size);
+        if (cached != null) {
+            return cached;
+        }
+        Limit fetch = Limit.of(size + 1);
+        List<NoteSummary> notes = cursor == null
+                ? transactionTemplate.execute(status -> noteRepository.findSummaries(ownerId, fetch))
+                : noteRepository.findSummariesAfter(ownerId, cursor.createdAt(), cursor.id(), fetch);
 
-    public List<Note> getAllNotes() {
-        return noteRepository.findAllByOrderByCreatedAtDesc();
+        if (notes.size() <= size) {
+            return new NotePage(notes, null);
+        }
+        List<NoteSummary> page = notes.subList(0, size);
+        return new NotePage(page, NoteCursor.of(page.get(size - 1)));
     }
 
-    public Note createNote(String title, String content) {
+    @Transactional(readOnly = true)
+    public Note getNote(Long ownerId, Long id) {
+        // 다른 사용자의 노트는 존재 여부도 드러내지 않도록 403이 아니라 404로 응답한다
+        return noteRepository.findByIdAndOwnerId(id, ownerId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "노트를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 순위가 높은 순으로 검색 결과 한 페이지를 돌려준다. offset 기반이므로 깊이는 MAX_SEARCH_DEPTH로 제한한다.
+     */
+    @Transactional(readOnly = true)
+    public List<NoteSearchHit> search(Long ownerId, String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색어를 입력해주세요.");
+        }
+        int limit = Math.clamp(size, 1, MAX_SEARCH_PAGE_SIZE);
+        long offset = (long) Math.max(page, 0) * limit;
+        if (offset + limit > MAX_SEARCH_DEPTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색 결과는 " + MAX_SEARCH_DEPTH + "건까지만 조회할 수 있습니다.");
+        }
+        return noteRepository.search(ownerId, query.strip(), HEADLINE_OPTIONS, limit, (int) offset);
+    }
+
+    @Transactional
+    public Note createNote(Long ownerId, String title, String content) {
         Note note = Note.builder()
+                .owner(userRepository.getReferenceById(ownerId))
                 .title(title)
                 .content(content)
                 .build();
-        return noteRepository.save(note);
+        Note saved = noteRepository.save(note);
+        eventPublisher.publishEvent(new NotesCreatedEvent(List.of(saved)));
+        return saved;
+    }
+
+    /**
+     * 여러 노트를 한 트랜잭션으로 저장한다. 항목별로 검증해 실패한 항목만 제외하고,
+     * 나머지는 시퀀스 선할당과 JDBC 배치로 묶어 몇 번의 왕복으로 insert한다.
+     */
+    @Transactional
+    public List<BatchItemResult> createNotes(Long ownerId, List<NoteDraft> drafts) {
+        if (drafts.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "한 번에 최대 " + MAX_BATCH_SIZE + "건까지 등록할 수 있습니다.");
+        }
+
+        // 소유자는 프록시 참조로만 연결하므로 users 테이블을 조회하지 않는다
+        User owner = userRepository.getReferenceById(ownerId);
+        List<Note> accepted = new ArrayList<>(drafts.size());
+        String[] errors = new String[drafts.size()];
+        for (int i = 0; i < drafts.size(); i++) {
+            NoteDraft draft = drafts.get(i);
+            errors[i] = validate(draft);
+            if (errors[i] == null) {
+                accepted.add(Note.builder()
+                        .owner(owner)
+                        .title(draft.title())
+                        .content(draft.content())
+                        .build());
+            }
+        }
+        List<Note> saved = noteRepository.saveAll(accepted);
+        if (!saved.isEmpty()) {
+            eventPublisher.publishEvent(new NotesCreatedEvent(saved));
+        }
+
+        List<BatchItemResult> results = new ArrayList<>(drafts.size());
+        int savedIndex = 0;
+        for (int i = 0; i < drafts.size(); i++) {
+            results.add(errors[i] == null
+                    ? BatchItemResult.created(i, saved.get(savedIndex++))
+                    : BatchItemResult.rejected(i, errors[i]));
+        }
+        return results;
+    }
+
+    static String validate(NoteDraft draft) {
+        if (draft == null || draft.title() == null || draft.title().isBlank()) {
+            return "제목은 필수입니다.";
+        }
+        if (draft.title().length() > 200) {
+            return "제목은 200자 이하여야 합니다.";
+        }
+        if (draft.content() == null || draft.content().isBlank()) {
+            return "내용은 필수입니다.";
+        }
+        if (draft.content().length() > 2000) {
+            return "내용은 2000자 이하여야 합니다.";
+        }
+        return null;
+    }
+
+    public record NoteDraft(String title, String content) {
+    }
+
+    public record BatchItemResult(int index, Note note, String error) {
+
+        static BatchItemResult created(int index, Note note) {
+            return new BatchItemResult(index, note, null);
+        }
+
+        static BatchItemResult rejected(int index, String error) {
+            return new BatchItemResult(index, null, error);
+        }
+    }
+
+    public record NotePage(List<NoteSummary> notes, NoteCursor nextCursor) {
+
+        /**
+         * 이 페이지 내용의 표식. 노트는 추가만 되고 고쳐지지 않으므로 첫/마지막 노트 id, 건수,
+         * 다음 페이지 여부가 같으면 응답 본문도 같다.
+         */
+        public String version() {
+            if (notes.isEmpty()) {
+                return "empty";
+            }
+            return notes.getFirst().id() + "." + notes.getLast().id() + "." + notes.size()
+                    + (nextCursor == null ? "" : "+");
+        }
     }
 }
@@ -0,0 +1,22 @@
+package com.aura.backend.note;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param maxSubscribers    인스턴스 하나가 유지하는 최대 구독 연결 수. 연결마다 Tomcat 연결 하나를 차지하므로
+ *                          server.tomcat.max-connections보다 충분히 작게 두어 일반 요청이 쓸 연결을 남긴다
+ * @param bufferSize        구독자별 미전송 이벤트 한도, 넘치면 느린 구독자로 보고 연결을 끊는다
+ * @param replaySize        Last-Event-ID로 재연결할 때 다시 보내 줄 수 있는 최근 이벤트 수 (전체 사용자 합계)
+ * @param heartbeatInterval 프록시가 유휴 연결을 끊지 않도록 주석 한 줄을 보내는 간격
+ * @param timeout           연결 최대 유지 시간, 지나면 클라이언트가 Last-Event-ID로 다시 연결한다
+ */
+@ConfigurationProperties("aura.notes.stream")
+public record NoteStreamProperties(
+        int maxSubscribers,
+        int bufferSize,
+        int replaySize,
+        Duration heartbeatInterval,
+        Duration timeout
+) {
+}
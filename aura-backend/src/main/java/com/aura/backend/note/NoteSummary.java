@@ -0,0 +1,33 @@
+package com.aura.backend.note;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록용 읽기 전용 프로젝션. 본문은 DB에서 잘라 온 앞부분만 들고 있으며 영속성 컨텍스트에 올라가지 않는다.
+ *
+ * @param preview 본문 앞부분. 잘렸는지 알 수 있도록 PREVIEW_LENGTH보다 한 글자 더 조회한다.
+ */
+public record NoteSummary(Long id, String title, String preview, LocalDateTime createdAt) {
+
+    public static final int PREVIEW_LENGTH = 120;
+    static final int PREVIEW_FETCH_LENGTH = PREVIEW_LENGTH + 1;
+
+    /**
+     * 이미 읽어 둔 엔티티에서 목록 조회와 같은 모양의 요약을 만든다.
+     */
+    public static NoteSummary of(Note note) {
+        String content = note.getContent();
+        String preview = content == null || content.length() <= PREVIEW_FETCH_LENGTH
+                ? content
+                : content.substring(0, PREVIEW_FETCH_LENGTH);
+        return new NoteSummary(note.getId(), note.getTitle(), preview, note.getCreatedAt());
+    }
+
+    public boolean truncated() {
+        return preview != null && preview.length() > PREVIEW_LENGTH;
+    }
+
+    public String trimmedPreview() {
+        return truncated() ? preview.substring(0, PREVIEW_LENGTH) : preview;
+    }
+}
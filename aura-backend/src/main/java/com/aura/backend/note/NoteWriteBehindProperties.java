@@ -0,0 +1,23 @@
+package com.aura.backend.note;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled       true면 POST /api/notes가 저장을 기다리지 않고 대기열에 넣은 뒤 202를 돌려준다
+ * @param queueCapacity 대기열 크기, 가득 차 있으면 offerTimeout만큼 기다린 뒤 503으로 거절한다
+ * @param batchSize     트랜잭션 한 번에 저장하는 최대 건수
+ * @param maxDelay      대기열에 들어온 노트가 배치를 채우지 못해도 저장되기까지의 최대 지연
+ * @param offerTimeout  대기열이 가득 찼을 때 요청 스레드가 기다리는 최대 시간
+ * @param maxAttempts   배치 저장을 시도하는 횟수, 모두 실패하면 한 건씩 저장해 실패한 노트만 버린다
+ */
+@ConfigurationProperties("aura.notes.write-behind")
+public record NoteWriteBehindProperties(
+        boolean enabled,
+        int queueCapacity,
+        int batchSize,
+        Duration maxDelay,
+        Duration offerTimeout,
+        int maxAttempts
+) {
+}
@@ -0,0 +1,251 @@
+package com.aura.backend.note;
+
+import com.aura.backend.user.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 노트 생성을 요청 스레드에서 떼어 내는 write-behind 대기열. 요청은 검증 후 대기열에 넣고 임시 id로 바로 응답하며,
+ * 전용 스레드 하나가 batchSize 건씩(또는 maxDelay마다) 모아 한 트랜잭션으로 저장한다.
+ *
+ * <p>대기열 크기가 곧 배압이다. 가득 차면 요청은 offerTimeout만큼만 기다리고 503을 받는다.
+ * 종료 시에는 웹 서버가 요청 수신을 멈춘 뒤 남은 노트를 모두 저장하고 나서야 멈춘다.
+ * 배치가 maxAttempts번 모두 실패하면 한 건씩 따로 저장해서 실패한 노트만 버린다.
+ *
+ * <p>aura.notes.writebehind.queued(대기 건수), .lag(접수부터 커밋까지), .rejected, .dropped를 기록한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "aura.notes.write-behind", name = "enabled", havingValue = "true")
+public class NoteWriteBehindQueue implements SmartLifecycle {
+
+    private static final long RETRY_BACKOFF_MILLIS = 1000;
+
+    private final NoteRepository noteRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+    private final NoteWriteBehindProperties properties;
+    private final BlockingQueue<PendingNote> queue;
+
+    private final Timer lag;
+    private final Counter rejected;
+    private final Counter dropped;
+
+    // 접수 여부를 확인한 뒤 아직 대기열에 넣지 못한 요청 수. 작성 스레드는 이 값이 0이 될 때까지 끝나지 않는다.
+    private final AtomicInteger offering = new AtomicInteger();
+
+    private volatile boolean accepting;
+    private volatile Thread writer;
+
+    public NoteWriteBehindQueue(NoteRepository noteRepository,
+                                UserRepository userRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                NoteWriteBehindProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.noteRepository = noteRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        this.lag = Timer.builder("aura.notes.writebehind.lag")
+                .description("대기열 접수부터 커밋까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = meterRegistry.counter("aura.notes.writebehind.rejected");
+        this.dropped = meterRegistry.counter("aura.notes.writebehind.dropped");
+        Gauge.builder("aura.notes.writebehind.queued", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검증을 통과한 노트를 대기열에 넣는다. 저장은 나중에 일어나므로 돌려주는 것은 임시 id뿐이다.
+     */
+    public PendingNote enqueue(Long ownerId, String title, String content) {
+        String error = NoteService.validate(new NoteService.NoteDraft(title, content));
+        if (error != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, error);
+        }
+
+        // accepting을 읽기 전에 올려 두어야, 종료 중인 작성 스레드가 이 노트를 기다린다
+        offering.incrementAndGet();
+        try {
+            if (!accepting) {
+                throw busy();
+            }
+            PendingNote pending = new PendingNote(UUID.randomUUID(), ownerId, title, content, System.nanoTime());
+            if (!queue.offer(pending, properties.offerTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw busy();
+            }
+            return pending;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw busy();
+        } finally {
+            offering.decrementAndGet();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        accepting = true;
+        writer = Thread.ofPlatform().name("note-writer").daemon(true).start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        stop(() -> { });
+    }
+
+    /**
+     * 새 노트 접수를 막고, 작성 스레드가 대기열을 비운 뒤 끝나면 callback을 호출한다.
+     */
+    @Override
+    public synchronized void stop(Runnable callback) {
+        accepting = false;
+        Thread current = writer;
+        if (current == null) {
+            callback.run();
+            return;
+        }
+        Thread.ofVirtual().name("note-writer-drain").start(() -> {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                callback.run();
+            }
+        });
+    }
+
+    @Override
+    public boolean isRunning() {
+        Thread current = writer;
+        return current != null && current.isAlive();
+    }
+
+    /**
+     * 웹 서버(graceful shutdown 포함)보다 늦게 멈춰서, 종료 직전에 접수된 노트까지 저장한다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        List<PendingNote> batch = new ArrayList<>(properties.batchSize());
+        long maxDelayNanos = properties.maxDelay().toNanos();
+        while (accepting || offering.get() > 0 || !queue.isEmpty()) {
+            try {
+                PendingNote first = queue.poll(maxDelayNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.batchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 인터럽트는 종료 신호로만 쓰이므로 남은 노트를 비울 때까지 계속한다
+                accepting = false;
+            } finally {
+                batch.clear();
+            }
+        }
+        log.info("노트 write-behind 대기열 종료");
+    }
+
+    private void flush(List<PendingNote> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                save(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= properties.maxAttempts()) {
+                    if (batch.size() == 1) {
+                        dropped.increment();
+                        log.error("노트 1건을 저장하지 못해 버립니다. (owner={})", batch.getFirst().ownerId(), e);
+                    } else {
+                        log.warn("노트 {}건 배치 저장 실패, 한 건씩 다시 저장합니다.", batch.size(), e);
+                        saveEach(batch);
+                    }
+                    return;
+                }
+                log.warn("노트 {}건 저장 실패, 재시도합니다 ({}/{})", batch.size(), attempt, properties.maxAttempts(), e);
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+                } catch (InterruptedException interrupted) {
+                    accepting = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * 배치 안의 노트 하나(소유자가 삭제됨, 제약 위반 등) 때문에 나머지까지 버리지 않도록 각자 트랜잭션으로 저장한다.
+     */
+    private void saveEach(List<PendingNote> batch) {
+        int failed = 0;
+        for (PendingNote pending : batch) {
+            try {
+                save(List.of(pending));
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("노트를 저장하지 못해 버립니다. (owner={})", pending.ownerId(), e);
+            }
+        }
+        if (failed > 0) {
+            dropped.increment(failed);
+        }
+    }
+
+    private void save(List<PendingNote> pendingNotes) {
+        transaction.executeWithoutResult(status -> {
+            List<Note> notes = new ArrayList<>(pendingNotes.size());
+            for (PendingNote pending : pendingNotes) {
+                notes.add(Note.builder()
+                        .owner(userRepository.getReferenceById(pending.ownerId()))
+                        .title(pending.title())
+                        .content(pending.content())
+                        .build());
+            }
+            eventPublisher.publishEvent(new NotesCreatedEvent(noteRepository.saveAll(notes)));
+        });
+        long committedAt = System.nanoTime();
+        for (PendingNote pending : pendingNotes) {
+            lag.record(committedAt - pending.enqueuedNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static ResponseStatusException busy() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+
+    /**
+     * @param provisionalId 저장 전 응답에 쓰는 임시 id, 저장된 노트의 id와는 무관하다
+     */
+    public record PendingNote(UUID provisionalId, Long ownerId, String title, String content, long enqueuedNanos) {
+    }
+}
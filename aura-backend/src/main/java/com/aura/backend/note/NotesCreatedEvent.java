@@ -0,0 +1,9 @@
+package com.aura.backend.note;
+
+import java.util.List;
+
+/**
+ * 노트가 저장되었을 때 발행된다. 구독자는 커밋 이후에 받도록 @TransactionalEventListener를 쓴다.
+ */
+public record NotesCreatedEvent(List<Note> notes) {
+}
@@ -0,0 +1,219 @@
+package com.aura.backend.note;
+
+import com.aura.backend.note.NoteService.NotePage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자별 최신 노트 depth건을 최신순 불변 스냅샷으로 들고 있다가, 그 안에서 끝나는 목록 페이지를 DB 없이 돌려준다.
+ *
+ * <p>읽기는 Caffeine 조회와 불변 리스트 slice뿐이라 락을 잡지 않는다. 새 노트는 커밋 이후 스냅샷을 새로 만들어 바꿔 끼우고,
+ * 스냅샷을 읽어 오는 중에 커밋된 노트는 같은 키의 계산이 끝난 뒤 합쳐지므로 빠지지 않는다(id로 중복 제거).
+ * 합쳐도 만료 시각은 처음 읽은 시점 기준이라, 다른 인스턴스에서 저장된 노트도 ttl 안에는 보인다.
+ * 첫 페이지가 아닌 요청은 스냅샷이 이미 있을 때만 보고, 범위를 벗어나면 저장소로 넘긴다.
+ * 스냅샷은 ttl 동안 재사용되므로 복제본이 아니라 primary에서 읽는다. 지연된 복제본에서 읽으면
+ * 방금 커밋된 노트가 빠진 스냅샷이 ttl 내내 남기 때문이다.
+ *
+ * <p>aura.notes.recent.pages{result=hit|miss}와 cache=recent-notes 캐시 지표를 기록한다.
+ */
+@Slf4j
+@Component
+public class RecentNotesCache implements MeterBinder {
+
+    private static final Comparator<NoteSummary> NEWEST_FIRST = Comparator
+            .comparing(NoteSummary::createdAt)
+            .thenComparing(NoteSummary::id)
+            .reversed();
+
+    private final NoteRepository noteRepository;
+    private final RecentNotesCacheProperties properties;
+    private final TransactionTemplate primaryRead;
+    private final Cache<Long, Snapshot> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public RecentNotesCache(NoteRepository noteRepository, RecentNotesCacheProperties properties,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this(noteRepository, properties, transactionManager, meterRegistry, Ticker.systemTicker());
+    }
+
+    RecentNotesCache(NoteRepository noteRepository, RecentNotesCacheProperties properties,
+                     PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, Ticker ticker) {
+        this.noteRepository = noteRepository;
+        this.properties = properties;
+        // readOnly가 아닌 트랜잭션이라 라우팅 데이터소스가 primary 커넥션을 준다
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        long ttlNanos = properties.ttl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maximumNotes())
+                .weigher((Long ownerId, Snapshot snapshot) -> snapshot.notes().size() + 1)
+                .expireAfter(new Expiry<Long, Snapshot>() {
+                    @Override
+                    public long expireAfterCreate(Long ownerId, Snapshot snapshot, long currentTime) {
+                        return ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long ownerId, Snapshot snapshot, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long ownerId, Snapshot snapshot, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.hits = meterRegistry.counter("aura.notes.recent.pages", "result", "hit");
+        this.misses = meterRegistry.counter("aura.notes.recent.pages", "result", "miss");
+    }
+
+    /**
+     * 스냅샷만으로 답할 수 있으면 페이지를, 아니면 null을 돌려준다. 첫 페이지인데 스냅샷이 없으면 이때 한 번 읽어 둔다.
+     */
+    NotePage page(Long ownerId, NoteCursor cursor, int size) {
+        if (!properties.enabled() || size > properties.depth()) {
+            return null;
+        }
+        Snapshot snapshot = cache.getIfPresent(ownerId);
+        if (snapshot == null) {
+            misses.increment();
+            return cursor == null ? cache.get(ownerId, this::load).page(null, size) : null;
+        }
+        NotePage page = snapshot.page(cursor, size);
+        (page == null ? misses : hits).increment();
+        return page;
+    }
+
+    /**
+     * 스냅샷을 버려 다음 첫 페이지 요청에서 다시 읽게 한다.
+     */
+    void invalidate(Long ownerId) {
+        cache.invalidate(ownerId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onNotesCreated(NotesCreatedEvent event) {
+        if (!properties.enabled()) {
+            return;
+        }
+        Map<Long, List<NoteSummary>> added = new LinkedHashMap<>();
+        for (Note note : event.notes()) {
+            if (note.getOwner() != null) {
+                added.computeIfAbsent(note.getOwner().getId(), ownerId -> new ArrayList<>()).add(NoteSummary.of(note));
+            }
+        }
+        added.forEach((ownerId, summaries) -> cache.asMap().computeIfPresent(ownerId,
+                (key, snapshot) -> snapshot.merge(summaries, properties.depth())));
+    }
+
+    /**
+     * 최근에 노트를 쓴 사용자부터 미리 읽는다. 기동을 늦추지 않도록 별도 가상 스레드에서 돈다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void preload() {
+        if (!properties.enabled() || properties.preloadOwners() <= 0) {
+            return;
+        }
+        Thread.ofVirtual().name("recent-notes-preload").start(() -> {
+            try {
+                List<Long> ownerIds = noteRepository.findRecentlyActiveOwnerIds(Limit.of(properties.preloadOwners()));
+                ownerIds.forEach(ownerId -> cache.get(ownerId, this::load));
+                log.info("최근 노트 캐시 미리 채움 완료 (owners={})", ownerIds.size());
+            } catch (RuntimeException e) {
+                log.warn("최근 노트 캐시 미리 채우기 실패, 요청 시 채운다", e);
+            }
+        });
+    }
+
+    /**
+     * cache.gets{result=hit|miss}, cache.evictions 등을 cache=recent-notes 태그로 노출한다.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "recent-notes");
+    }
+
+    private Snapshot load(Long ownerId) {
+        int depth = properties.depth();
+        List<NoteSummary> notes = primaryRead.execute(status ->
+                noteRepository.findSummaries(ownerId, Limit.of(depth + 1)));
+        return notes.size() > depth
+                ? new Snapshot(List.copyOf(notes.subList(0, depth)), false)
+                : new Snapshot(List.copyOf(notes), true);
+    }
+
+    /**
+     * @param notes    최신순 요약
+     * @param complete 사용자의 노트 전부를 담고 있으면 true, 이때는 마지막 페이지도 스냅샷으로 답할 수 있다
+     */
+    record Snapshot(List<NoteSummary> notes, boolean complete) {
+
+        NotePage page(NoteCursor cursor, int size) {
+            int from = cursor == null ? 0 : indexAfter(cursor);
+            int to = from + size;
+            if (to < notes.size()) {
+                List<NoteSummary> page = notes.subList(from, to);
+                return new NotePage(page, NoteCursor.of(page.get(size - 1)));
+            }
+            if (!complete) {
+                // 스냅샷 끝에 닿았는데 그 뒤에 더 있는지 모르면 저장소에서 읽는다
+                return null;
+            }
+            return new NotePage(notes.subList(from, notes.size()), null);
+        }
+
+        Snapshot merge(List<NoteSummary> added, int depth) {
+            Set<Long> known = new HashSet<>();
+            notes.forEach(note -> known.add(note.id()));
+            List<NoteSummary> merged = new ArrayList<>(notes.size() + added.size());
+            merged.addAll(notes);
+            added.stream().filter(note -> known.add(note.id())).forEach(merged::add);
+            merged.sort(NEWEST_FIRST);
+            return merged.size() > depth
+                    ? new Snapshot(List.copyOf(merged.subList(0, depth)), false)
+                    : new Snapshot(List.copyOf(merged), complete);
+        }
+
+        private int indexAfter(NoteCursor cursor) {
+            int index = 0;
+            while (index < notes.size() && !isOlder(notes.get(index), cursor)) {
+                index++;
+            }
+            return index;
+        }
+
+        private static boolean isOlder(NoteSummary note, NoteCursor cursor) {
+            int byTime = note.createdAt().compareTo(cursor.createdAt());
+            return byTime < 0 || (byTime == 0 && note.id() < cursor.id());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.aura.backend.note;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled       false면 모든 목록 조회가 DB로 간다
+ * @param depth         사용자별로 들고 있는 최신 노트 수, 이 안에서 끝나는 페이지만 캐시에서 응답한다
+ * @param maximumNotes  모든 사용자의 스냅샷에 담긴 노트 수 합계 상한
+ * @param ttl           스냅샷을 DB에서 다시 읽는 주기, 다른 인스턴스에서 저장된 노트가 보이기까지의 최대 지연
+ * @param preloadOwners 기동 직후 미리 채울 최근 활동 사용자 수, 0이면 미리 채우지 않는다
+ */
+@ConfigurationProperties("aura.notes.recent-cache")
+public record RecentNotesCacheProperties(
+        boolean enabled,
+        int depth,
+        long maximumNotes,
+        Duration ttl,
+        int preloadOwners
+) {
+}
@@ -0,0 +1,123 @@
+package com.aura.backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * BCrypt 해싱/검증을 크기가 고정된 전용 스레드 풀에서만 실행하는 PasswordEncoder.
+ * 로그인이 몰려도 해싱에 쓰이는 CPU는 스레드 수만큼으로 제한되고, 대기열이 넘치면 바로 503을 돌려준다.
+ *
+ * <p>aura.password.hash(실제 계산 시간), aura.password.hash.rejected/timeout, 풀 사용량 게이지를 기록한다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+    private final Counter timedOut;
+
+    public BoundedPasswordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(properties.strength());
+        this.timeoutNanos = properties.timeout().toNanos();
+        int threads = properties.effectiveThreads();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.rejected = meterRegistry.counter("aura.password.hash.rejected");
+        this.timedOut = meterRegistry.counter("aura.password.hash.timeout");
+        Gauge.builder("aura.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("aura.password.hash.queued", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 작업 계수가 설정값보다 낮으면 true. 해시 문자열만 보므로 풀을 거치지 않는다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("aura.password.hash")
+                .description("BCrypt 계산 시간 (대기 시간 제외)")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static ResponseStatusException busy() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+}
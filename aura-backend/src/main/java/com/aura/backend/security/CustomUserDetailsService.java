@@ -4,20 +4,40 @@ import com.aura.backend.user.User;
 import com.aura.backend.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
+    /**
+     * 가입 직후 로그인이나 비밀번호 변경 직후처럼 방금 쓴 사용자를 읽어야 하므로 복제본이 아닌 primary에서 읽는다.
+     * readOnly를 빼 두면 라우팅 데이터소스가 primary 커넥션을 준다. 결과는 UserDetailsCache에 남으므로 매번 가지는 않는다.
+     */
     @Override
+    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(username)
+        return userDetailsCache.get(username, email -> userRepository.findByEmail(email)
+                .map(UserPrincipal::new)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다.")));
+    }
+
+    /**
+     * 로그인 시 저장된 해시의 작업 계수가 낮으면 새 해시로 교체한다.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        user.changePassword(newPassword);
         return new UserPrincipal(user);
     }
 }
@@ -0,0 +1,29 @@
+package com.aura.backend.security;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled     false면 검사하지 않는다 (부하 테스트 등)
+ * @param perIp       클라이언트 IP별 한도
+ * @param perAccountIp (이메일, 클라이언트 IP) 쌍별 한도. 다른 IP에서의 시도는 서로의 한도를 쓰지 않는다
+ * @param perAccount   이메일별 전체 한도. 여러 IP에 나눈 시도를 묶으며, perAccountIp보다 넉넉하게 둔다
+ * @param maximumKeys 한도별로 추적하는 키의 최대 개수, 넘치면 오래 안 쓰인 키부터 버린다
+ * @param idleTimeout 이 시간 동안 시도가 없던 키는 버린다 (한도가 회복되는 데 걸리는 시간보다 짧게 잡아도 그만큼은 유지한다)
+ */
+@ConfigurationProperties("aura.security.login-rate-limit")
+public record LoginRateLimitProperties(
+        boolean enabled,
+        Bucket perIp,
+        Bucket perAccountIp,
+        Bucket perAccount,
+        long maximumKeys,
+        Duration idleTimeout
+) {
+    /**
+     * @param burst        연속으로 허용하는 시도 수
+     * @param refillPeriod 시도 한 번이 회복되는 데 걸리는 시간
+     */
+    public record Bucket(int burst, Duration refillPeriod) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.aura.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인/회원가입 시도를 BCrypt 계산 전에 IP별, (이메일, IP) 쌍별, 이메일별로 제한한다.
+ *
+ * <p>(이메일, IP) 한도가 촘촘하고 이메일 전체 한도는 그보다 넉넉하다. 한 IP에서 남의 이메일로 틀린 비밀번호를 반복하면
+ * 그 IP의 쌍 한도에서 먼저 막히고 이메일 전체 한도는 거의 쓰지 않으므로, 계정 주인은 다른 IP에서 그대로 로그인할 수 있다.
+ * 여러 IP에 나눠 한 계정을 노리는 시도는 이메일 전체 한도로 묶인다.
+ * clientIp는 프록시 뒤에서도 실제 클라이언트 주소여야 하므로 server.forward-headers-strategy를 설정해 둔다.
+ *
+ * <p>키마다 GCRA(버킷이 다시 가득 차는 이론상 시각 하나) 값을 AtomicLong으로 들고 CAS로만 갱신하므로 락이 없다.
+ * 키는 Caffeine에 크기와 유휴 시간 제한을 걸어 보관하므로, 임의의 IP나 이메일을 뿌려도 메모리는 maximumKeys로 묶인다.
+ *
+ * <p>aura.auth.throttled{scope=ip|account-ip|account}(거절 수)와 aura.auth.throttle.keys{scope}(추적 중인 키 수)를 기록한다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final boolean enabled;
+    private final Limit perIp;
+    private final Limit perAccountIp;
+    private final Limit perAccount;
+
+    @Autowired
+    public LoginRateLimiter(LoginRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    LoginRateLimiter(LoginRateLimitProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.enabled = properties.enabled();
+        this.perIp = new Limit("ip", properties.perIp(), properties, meterRegistry, ticker);
+        this.perAccountIp = new Limit("account-ip", properties.perAccountIp(), properties, meterRegistry, ticker);
+        this.perAccount = new Limit("account", properties.perAccount(), properties, meterRegistry, ticker);
+    }
+
+    /**
+     * IP, (이메일, IP), 이메일 순으로 확인한다. 앞의 한도에 걸린 시도는 뒤의 한도를 소모하지 않는다.
+     *
+     * @throws TooManyRequestsException 어느 한도든 넘은 경우
+     */
+    public void check(String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+        perIp.acquire(clientIp);
+        if (email != null) {
+            String account = email.strip().toLowerCase(Locale.ROOT);
+            perAccountIp.acquire(account + " " + clientIp);
+            perAccount.acquire(account);
+        }
+    }
+
+    private static final class Limit {
+
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final Ticker ticker;
+        private final Cache<String, AtomicLong> buckets;
+        private final Counter throttled;
+
+        Limit(String scope, LoginRateLimitProperties.Bucket bucket, LoginRateLimitProperties properties,
+              MeterRegistry meterRegistry, Ticker ticker) {
+            this.intervalNanos = bucket.refillPeriod().toNanos();
+            this.burstNanos = intervalNanos * bucket.burst();
+            this.ticker = ticker;
+            // 버킷이 완전히 회복되기 전에 키를 버리면 한도가 초기화되므로, 유휴 시간은 최소 회복 시간 이상으로 둔다
+            Duration idle = properties.idleTimeout().compareTo(Duration.ofNanos(burstNanos)) >= 0
+                    ? properties.idleTimeout()
+                    : Duration.ofNanos(burstNanos);
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(properties.maximumKeys())
+                    .expireAfterAccess(idle)
+                    .ticker(ticker)
+                    .build();
+            this.throttled = Counter.builder("aura.auth.throttled")
+                    .tag("scope", scope)
+                    .register(meterRegistry);
+            Gauge.builder("aura.auth.throttle.keys", buckets, Cache::estimatedSize)
+                    .tag("scope", scope)
+                    .register(meterRegistry);
+        }
+
+        void acquire(String key) {
+            AtomicLong theoreticalArrival = buckets.get(key, ignored -> new AtomicLong(Long.MIN_VALUE));
+            long now = ticker.read();
+            while (true) {
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now) + intervalNanos;
+                long allowedAt = next - burstNanos;
+                if (allowedAt > now) {
+                    throttled.increment();
+                    throw new TooManyRequestsException(Duration.ofNanos(allowedAt - now));
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.aura.backend.security;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param strength      BCrypt 작업 계수(log rounds)
+ * @param threads       해싱 전용 스레드 수, 0이면 CPU 코어 수의 절반
+ * @param queueCapacity 대기열 크기, 가득 차면 즉시 503으로 거절한다
+ * @param timeout       대기와 계산을 합친 최대 시간
+ */
+@ConfigurationProperties("aura.security.password")
+public record PasswordHashingProperties(
+        int strength,
+        int threads,
+        int queueCapacity,
+        Duration timeout
+) {
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
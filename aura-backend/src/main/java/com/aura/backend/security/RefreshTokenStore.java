@@ -0,0 +1,48 @@
+package com.aura.backend.security;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발급한 refresh 토큰의 jti를 aura_refresh_token 테이블(db/refresh-token.sql, V4 마이그레이션)에 둔다.
+ * 행이 있는 토큰만 한 번 쓸 수 있고, 쓰는 순간 행을 지운다. 토큰 모드가 꺼져 있으면 호출되지 않는다.
+ */
+@Component
+public class RefreshTokenStore {
+
+    private static final String INSERT =
+            "insert into aura_refresh_token (token_id, user_id, expires_at) values (?, ?, ?)";
+    private static final String DELETE_EXPIRED_FOR_USER =
+            "delete from aura_refresh_token where user_id = ? and expires_at < ?";
+    private static final String CONSUME =
+            "delete from aura_refresh_token where token_id = ? and user_id = ? and expires_at > ?";
+    private static final String DELETE_FOR_USER = "delete from aura_refresh_token where user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RefreshTokenStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 새 토큰을 등록하면서 같은 사용자의 만료된 행을 함께 지워, 별도 정리 작업 없이 테이블이 사용자별로 작게 유지된다.
+     */
+    public void register(String tokenId, Long userId, Instant expiresAt) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(DELETE_EXPIRED_FOR_USER, userId, now);
+        jdbcTemplate.update(INSERT, tokenId, userId, Timestamp.from(expiresAt));
+    }
+
+    /**
+     * 토큰을 사용 처리한다. delete 한 문장으로 판단하므로 같은 토큰으로 동시에 요청해도 한 요청만 true를 받는다.
+     */
+    public boolean consume(String tokenId, Long userId) {
+        return jdbcTemplate.update(CONSUME, tokenId, userId, Timestamp.from(Instant.now())) == 1;
+    }
+
+    public void revokeAll(Long userId) {
+        jdbcTemplate.update(DELETE_FOR_USER, userId);
+    }
+}
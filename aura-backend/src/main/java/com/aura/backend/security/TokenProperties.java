@@ -0,0 +1,14 @@
+package com.aura.backend.security;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("aura.auth.token")
+public record TokenProperties(
+        boolean enabled,
+        String secret,
+        String issuer,
+        Duration accessTokenTtl,
+        Duration refreshTokenTtl
+) {
+}
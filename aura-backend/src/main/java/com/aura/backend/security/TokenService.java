@@ -0,0 +1,164 @@
+package com.aura.backend.security;
+
+import com.aura.backend.auth.dto.AuthTokens;
+import com.aura.backend.user.AuthProvider;
+import com.aura.backend.user.User;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * 토큰 모드에서 쓰는 HS256 access/refresh 토큰 발급과 검증.
+ * access 토큰에는 UserPrincipal을 복원하는 데 필요한 값이 모두 들어 있어 요청마다 DB나 세션을 조회하지 않는다.
+ * refresh 토큰은 RefreshTokenStore에 등록된 jti로 한 번만 쓸 수 있고, 쓸 때마다 새 쌍으로 바뀐다.
+ */
+@Service
+public class TokenService {
+
+    static final String TOKEN_USE = "token_use";
+    static final String ACCESS = "access";
+    static final String REFRESH = "refresh";
+
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final TokenProperties properties;
+    private final RefreshTokenStore refreshTokenStore;
+    private final JwtEncoder encoder;
+    private final JwtDecoder accessTokenDecoder;
+    private final JwtDecoder refreshTokenDecoder;
+
+    public TokenService(TokenProperties properties, RefreshTokenStore refreshTokenStore) {
+        this.properties = properties;
+        this.refreshTokenStore = refreshTokenStore;
+        if (!properties.enabled()) {
+            this.encoder = null;
+            this.accessTokenDecoder = null;
+            this.refreshTokenDecoder = null;
+            return;
+        }
+        SecretKey key = secretKey(properties.secret());
+        this.encoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+        this.accessTokenDecoder = decoder(key, ACCESS);
+        this.refreshTokenDecoder = decoder(key, REFRESH);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public JwtDecoder accessTokenDecoder() {
+        return accessTokenDecoder;
+    }
+
+    public AuthTokens issue(UserPrincipal principal) {
+        Instant now = Instant.now();
+        JwtClaimsSet access = JwtClaimsSet.builder()
+                .issuer(properties.issuer())
+                .subject(String.valueOf(principal.getId()))
+                .issuedAt(now)
+                .expiresAt(now.plus(properties.accessTokenTtl()))
+                .claim(TOKEN_USE, ACCESS)
+                .claim("email", principal.getEmail())
+                .claim("name", principal.getDisplayName())
+                .claim("provider", principal.getProvider())
+                .claim("role", principal.getRole())
+                .build();
+        String refreshTokenId = UUID.randomUUID().toString();
+        Instant refreshExpiresAt = now.plus(properties.refreshTokenTtl());
+        JwtClaimsSet refresh = JwtClaimsSet.builder()
+                .issuer(properties.issuer())
+                .subject(String.valueOf(principal.getId()))
+                .issuedAt(now)
+                .expiresAt(refreshExpiresAt)
+                .id(refreshTokenId)
+                .claim(TOKEN_USE, REFRESH)
+                .claim("email", principal.getEmail())
+                .build();
+        refreshTokenStore.register(refreshTokenId, principal.getId(), refreshExpiresAt);
+        return new AuthTokens("Bearer", encode(access), properties.accessTokenTtl().toSeconds(), encode(refresh));
+    }
+
+    /**
+     * refresh 토큰을 검증하고 사용 처리한 뒤 담겨 있는 이메일을 돌려준다. 사용자 상태는 호출한 쪽에서 다시 확인한다.
+     * 서명은 맞는데 이미 쓴 토큰이면 탈취된 것으로 보고 그 사용자의 refresh 토큰을 모두 폐기한다.
+     */
+    public RefreshClaims consumeRefreshToken(String token) {
+        Jwt jwt = refreshTokenDecoder.decode(token);
+        Long userId = Long.valueOf(jwt.getSubject());
+        if (jwt.getId() == null || !refreshTokenStore.consume(jwt.getId(), userId)) {
+            refreshTokenStore.revokeAll(userId);
+            throw new BadJwtException("이미 사용했거나 폐기된 토큰입니다.");
+        }
+        return new RefreshClaims(userId, jwt.getClaimAsString("email"));
+    }
+
+    /**
+     * 사용자의 refresh 토큰을 모두 폐기한다. 이미 발급된 access 토큰은 만료될 때까지 유효하다.
+     */
+    public void revokeRefreshTokens(Long userId) {
+        refreshTokenStore.revokeAll(userId);
+    }
+
+    /**
+     * 검증이 끝난 access 토큰의 클레임만으로 인증 객체를 만든다.
+     */
+    public UsernamePasswordAuthenticationToken toAuthentication(Jwt jwt) {
+        User user = User.builder()
+                .id(Long.valueOf(jwt.getSubject()))
+                .email(jwt.getClaimAsString("email"))
+                .displayName(jwt.getClaimAsString("name"))
+                .provider(AuthProvider.valueOf(jwt.getClaimAsString("provider")))
+                .role(jwt.getClaimAsString("role"))
+                .build();
+        UserPrincipal principal = new UserPrincipal(user);
+        return UsernamePasswordAuthenticationToken.authenticated(principal, jwt, principal.getAuthorities());
+    }
+
+    private String encode(JwtClaimsSet claims) {
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        return encoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+
+    private JwtDecoder decoder(SecretKey key, String tokenUse) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(key)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        OAuth2TokenValidator<Jwt> tokenUseValidator = jwt -> tokenUse.equals(jwt.getClaimAsString(TOKEN_USE))
+                ? OAuth2TokenValidatorResult.success()
+                : OAuth2TokenValidatorResult.failure(new OAuth2Error("invalid_token", "토큰 용도가 올바르지 않습니다.", null));
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefaultWithIssuer(properties.issuer()), tokenUseValidator));
+        return decoder;
+    }
+
+    private static SecretKey secretKey(String secret) {
+        byte[] bytes = secret == null ? new byte[0] : secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("aura.auth.token.secret은 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다.");
+        }
+        return new SecretKeySpec(bytes, "HmacSHA256");
+    }
+
+    public record RefreshClaims(Long userId, String email) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.aura.backend.security;
+
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 429 응답. 다시 시도해도 되는 시점을 Retry-After 헤더(초 단위)로 알려준다.
+ */
+public class TooManyRequestsException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(Duration retryAfter) {
+        super(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        // 초 단위로 올림해서 클라이언트가 너무 일찍 재시도하지 않게 한다
+        this.retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return headers;
+    }
+}
@@ -0,0 +1,11 @@
+package com.aura.backend.security;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("aura.security.user-cache")
+public record UserCacheProperties(
+        long maximumSize,
+        Duration ttl
+) {
+}
@@ -0,0 +1,60 @@
+package com.aura.backend.security;
+
+import com.aura.backend.user.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 이메일로 찾은 UserPrincipal 스냅샷 캐시. 크기와 TTL로 제한되며, 사용자 레코드가 바뀌면 커밋 이후 무효화된다.
+ *
+ * <p>무효화는 이 인스턴스에서 JPA로 수정/삭제된 User 엔티티가 UserEntityListener를 거쳐 발행하는
+ * UserChangedEvent로만 일어난다. JPQL/네이티브 벌크 update·delete, JdbcTemplate, 다른 인스턴스에서의 변경은
+ * 이벤트가 없으므로 ttl이 지날 때까지 예전 스냅샷(비밀번호 해시, 권한 포함)이 쓰인다.
+ * 엔티티를 거치지 않고 사용자를 바꾸는 코드는 커밋 전에 UserChangedEvent를 직접 발행해야 한다.
+ * 없는 사용자는 캐시하지 않으므로 새로 추가된 사용자는 바로 보인다.
+ */
+@Component
+public class UserDetailsCache implements MeterBinder {
+
+    private final Cache<String, UserPrincipal> cache;
+
+    public UserDetailsCache(UserCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+    }
+
+    public UserPrincipal get(String email, Function<String, UserPrincipal> loader) {
+        return cache.get(email, loader);
+    }
+
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * cache.gets{result=hit|miss}, cache.evictions 등을 cache=user-details 태그로 노출한다.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user-details");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onUserChanged(UserChangedEvent event) {
+        invalidate(event.email());
+    }
+}
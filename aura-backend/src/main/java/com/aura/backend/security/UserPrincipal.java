@@ -7,43 +7,82 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+/**
+ * 인증에 필요한 사용자 값만 복사해 둔 불변 스냅샷. 영속성 컨텍스트와 분리되어 있어 캐시나 세션에 그대로 보관할 수 있다.
+ */
 public class UserPrincipal implements UserDetails {
 
-    private final User user;
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String email;
+    private final String displayName;
+    private final String provider;
+    private final String password;
+    private final String role;
+    private final List<GrantedAuthority> authorities;
 
     public UserPrincipal(User user) {
-        this.user = user;
+        this.id = user.getId();
+        this.email = user.getEmail();
+        this.displayName = user.getDisplayName();
+        this.provider = user.getProvider().name();
+        this.password = user.getPassword();
+        this.role = user.getRole();
+        this.authorities = List.of(new SimpleGrantedAuthority(user.getRole()));
+    }
+
+    private UserPrincipal(UserPrincipal source, String password) {
+        this.id = source.id;
+        this.email = source.email;
+        this.displayName = source.displayName;
+        this.provider = source.provider;
+        this.password = password;
+        this.role = source.role;
+        this.authorities = source.authorities;
+    }
+
+    /**
+     * 비밀번호 해시를 뺀 복사본. 세션에 직렬화되는 SecurityContext에는 이 복사본만 넣는다.
+     * 이 객체는 사용자 캐시와 공유되므로 eraseCredentials로 직접 지울 수 없다.
+     */
+    public UserPrincipal withoutPassword() {
+        return password == null ? this : new UserPrincipal(this, null);
     }
 
     public Long getId() {
-        return user.getId();
+        return id;
     }
 
     public String getDisplayName() {
-        return user.getDisplayName();
+        return displayName;
     }
 
     public String getEmail() {
-        return user.getEmail();
+        return email;
     }
 
     public String getProvider() {
-        return user.getProvider().name();
+        return provider;
+    }
+
+    public String getRole() {
+        return role;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(user.getRole()));
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -0,0 +1,134 @@
+package com.aura.backend.session;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.MapSession;
+
+/**
+ * PostgreSQL aura_session 테이블(db/session-store.sql, V2 마이그레이션)에 세션을 한 행으로 저장한다.
+ * 속성은 Java 직렬화한 맵 하나로 bytea 컬럼에 담는다.
+ */
+@Slf4j
+public class JdbcSessionStore implements SessionStore {
+
+    private static final String SELECT = """
+            select created_at, last_accessed_at, max_inactive_seconds, attributes
+            from aura_session
+            where session_id = ? and expires_at > ?
+            """;
+    private static final String UPSERT = """
+            insert into aura_session
+                (session_id, principal_name, created_at, last_accessed_at, max_inactive_seconds, expires_at, attributes)
+            values (?, ?, ?, ?, ?, ?, ?)
+            on conflict (session_id) do update set
+                principal_name = excluded.principal_name,
+                last_accessed_at = excluded.last_accessed_at,
+                max_inactive_seconds = excluded.max_inactive_seconds,
+                expires_at = excluded.expires_at,
+                attributes = excluded.attributes
+            """;
+    private static final String TOUCH = """
+            update aura_session set last_accessed_at = ?, expires_at = ?
+            where session_id = ? and last_accessed_at < ?
+            """;
+    private static final String DELETE = "delete from aura_session where session_id = ?";
+    private static final String DELETE_EXPIRED = """
+            delete from aura_session where session_id in (
+                select session_id from aura_session where expires_at < ? limit ?
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer = new DeserializingConverter();
+
+    public JdbcSessionStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public MapSession load(String id) {
+        List<MapSession> sessions = jdbcTemplate.query(SELECT, (rs, rowNum) -> {
+            MapSession session = new MapSession(id);
+            session.setCreationTime(rs.getTimestamp("created_at").toInstant());
+            session.setLastAccessedTime(rs.getTimestamp("last_accessed_at").toInstant());
+            session.setMaxInactiveInterval(Duration.ofSeconds(rs.getInt("max_inactive_seconds")));
+            Map<String, Object> attributes = deserialize(id, rs.getBytes("attributes"));
+            if (attributes == null) {
+                return null;
+            }
+            attributes.forEach(session::setAttribute);
+            return session;
+        }, id, Timestamp.from(Instant.now()));
+        return sessions.isEmpty() ? null : sessions.getFirst();
+    }
+
+    @Override
+    public void save(MapSession session, String previousId) {
+        Map<String, Object> attributes = new HashMap<>();
+        session.getAttributeNames().forEach(name -> attributes.put(name, session.getAttribute(name)));
+        Instant expiresAt = session.getLastAccessedTime().plus(session.getMaxInactiveInterval());
+        jdbcTemplate.update(UPSERT,
+                session.getId(),
+                principalName(session),
+                Timestamp.from(session.getCreationTime()),
+                Timestamp.from(session.getLastAccessedTime()),
+                (int) session.getMaxInactiveInterval().toSeconds(),
+                Timestamp.from(expiresAt),
+                serializer.convert(attributes));
+        if (previousId != null) {
+            jdbcTemplate.update(DELETE, previousId);
+        }
+    }
+
+    @Override
+    public void touch(Collection<Touch> touches) {
+        // 다른 인스턴스가 더 최근 시각을 써 두었다면 덮어쓰지 않는다
+        jdbcTemplate.batchUpdate(TOUCH, touches, touches.size(), (ps, touch) -> {
+            ps.setTimestamp(1, Timestamp.from(touch.lastAccessedTime()));
+            ps.setTimestamp(2, Timestamp.from(touch.expiresAt()));
+            ps.setString(3, touch.id());
+            ps.setTimestamp(4, Timestamp.from(touch.lastAccessedTime()));
+        });
+    }
+
+    @Override
+    public void delete(String id) {
+        jdbcTemplate.update(DELETE, id);
+    }
+
+    @Override
+    public int deleteExpired(Instant before, int limit) {
+        return jdbcTemplate.update(DELETE_EXPIRED, Timestamp.from(before), limit);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> deserialize(String id, byte[] bytes) {
+        try {
+            return (Map<String, Object>) deserializer.convert(bytes);
+        } catch (RuntimeException e) {
+            // 배포 사이에 속성 클래스가 바뀐 경우: 세션을 버리고 다시 로그인하게 한다
+            log.debug("세션 {} 속성을 읽을 수 없어 버립니다: {}", id, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String principalName(MapSession session) {
+        Object context = session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+        if (context instanceof SecurityContext securityContext && securityContext.getAuthentication() != null) {
+            return securityContext.getAuthentication().getName();
+        }
+        return null;
+    }
+}
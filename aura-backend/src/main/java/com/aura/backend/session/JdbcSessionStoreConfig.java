@@ -0,0 +1,22 @@
+package com.aura.backend.session;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+/**
+ * aura.session.store=jdbc면 HttpSession을 서블릿 컨테이너 대신 PostgreSQL에 보관해 여러 인스턴스가 공유한다.
+ * 로그인 상태(SecurityContext)가 어느 인스턴스에서든 보이므로 sticky session 없이 인스턴스를 늘릴 수 있다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "aura.session", name = "store", havingValue = "jdbc")
+@EnableSpringHttpSession
+public class JdbcSessionStoreConfig {
+
+    @Bean
+    NearCachingSessionRepository sessionRepository(JdbcTemplate jdbcTemplate, SessionStoreProperties properties) {
+        return new NearCachingSessionRepository(new JdbcSessionStore(jdbcTemplate), properties);
+    }
+}
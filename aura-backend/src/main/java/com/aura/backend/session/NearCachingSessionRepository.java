@@ -0,0 +1,291 @@
+package com.aura.backend.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+/**
+ * 외부 SessionStore 앞에 인스턴스 로컬 캐시를 두는 SessionRepository.
+ *
+ * <ul>
+ *     <li>조회: nearCacheTtl 동안은 캐시된 스냅샷의 복사본을 돌려주므로 대부분의 요청은 저장소를 거치지 않는다.
+ *     만료 시각은 저장소에서 읽어 온 시점 기준이며 이 인스턴스의 저장으로 늦춰지지 않는다. 그래서 계속 쓰이는 세션도
+ *     nearCacheTtl마다 저장소에서 다시 읽고, 다른 인스턴스의 로그아웃이나 속성 변경이 그 안에 반영된다.</li>
+ *     <li>저장: 새 세션, 속성/만료 시간/id가 바뀐 세션만 즉시 저장소에 쓴다. 요청마다 바뀌는 마지막 접근 시각은
+ *     모아 두었다가 lastAccessWriteInterval마다 배치로 쓴다.</li>
+ *     <li>정리: cleanupInterval마다 만료된 세션을 cleanupBatchSize건씩 지운다. 아직 쓰지 않은 접근 시각이 있을 수 있으므로
+ *     쓰기 간격만큼 여유를 두고 지운다. 조회에서 만료된 세션을 만나도 저장소에서는 지우지 않고 이 작업에 맡긴다.</li>
+ * </ul>
+ *
+ * <p>cache{cache=sessions} 메트릭과 aura.session.touches.pending, aura.session.expired.deleted를 기록한다.
+ */
+@Slf4j
+public class NearCachingSessionRepository
+        implements SessionRepository<NearCachingSessionRepository.CachedSession>, MeterBinder, DisposableBean {
+
+    private final SessionStore store;
+    private final Duration timeout;
+    private final Duration lastAccessWriteInterval;
+    private final int cleanupBatchSize;
+    private final Cache<String, MapSession> nearCache;
+    private final Map<String, SessionStore.Touch> pendingTouches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService maintenance;
+
+    private Counter expiredDeleted;
+
+    public NearCachingSessionRepository(SessionStore store, SessionStoreProperties properties) {
+        this(store, properties, Ticker.systemTicker());
+    }
+
+    NearCachingSessionRepository(SessionStore store, SessionStoreProperties properties, Ticker ticker) {
+        this.store = store;
+        this.timeout = properties.timeout();
+        this.lastAccessWriteInterval = properties.lastAccessWriteInterval();
+        this.cleanupBatchSize = properties.cleanupBatchSize();
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(properties.nearCacheMaximumSize())
+                .expireAfter(keepExpiryOnUpdate(properties.nearCacheTtl()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("session-store-maintenance").daemon(true).factory());
+        long writeMillis = lastAccessWriteInterval.toMillis();
+        long cleanupMillis = properties.cleanupInterval().toMillis();
+        maintenance.scheduleWithFixedDelay(this::flushTouches, writeMillis, writeMillis, TimeUnit.MILLISECONDS);
+        maintenance.scheduleWithFixedDelay(this::deleteExpired, cleanupMillis, cleanupMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public CachedSession createSession() {
+        MapSession session = new MapSession();
+        session.setMaxInactiveInterval(timeout);
+        return new CachedSession(session, null);
+    }
+
+    @Override
+    public void save(CachedSession session) {
+        MapSession snapshot = new MapSession(session.delegate);
+        String id = snapshot.getId();
+        if (session.requiresFullWrite()) {
+            String previousId = session.originalId != null && !session.originalId.equals(id) ? session.originalId : null;
+            store.save(snapshot, previousId);
+            pendingTouches.remove(id);
+            if (previousId != null) {
+                pendingTouches.remove(previousId);
+                nearCache.invalidate(previousId);
+            }
+            session.markSaved();
+        } else {
+            Instant lastAccessed = snapshot.getLastAccessedTime();
+            pendingTouches.put(id, new SessionStore.Touch(id, lastAccessed,
+                    lastAccessed.plus(snapshot.getMaxInactiveInterval())));
+        }
+        nearCache.put(id, snapshot);
+    }
+
+    @Override
+    public CachedSession findById(String id) {
+        MapSession snapshot = nearCache.getIfPresent(id);
+        if (snapshot != null && snapshot.isExpired()) {
+            // 스냅샷은 nearCacheTtl만큼 오래됐을 수 있다. 그사이 다른 인스턴스가 쓴 접근 시각이 있는지 저장소에서 다시 본다
+            nearCache.invalidate(id);
+            snapshot = null;
+        }
+        if (snapshot == null) {
+            snapshot = store.load(id);
+            if (snapshot == null) {
+                return null;
+            }
+            if (snapshot.isExpired()) {
+                // 다른 인스턴스가 아직 쓰지 않은 접근 시각이 있을 수 있으므로 여기서 지우지 않고,
+                // 쓰기 간격만큼 여유를 두고 지우는 정리 작업에 맡긴다
+                return null;
+            }
+            nearCache.put(id, snapshot);
+        }
+        return new CachedSession(new MapSession(snapshot), id);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        nearCache.invalidate(id);
+        pendingTouches.remove(id);
+        store.delete(id);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, nearCache, "sessions");
+        Gauge.builder("aura.session.touches.pending", pendingTouches, Map::size).register(registry);
+        expiredDeleted = registry.counter("aura.session.expired.deleted");
+    }
+
+    @Override
+    public void destroy() {
+        maintenance.shutdownNow();
+        flushTouches();
+    }
+
+    private static Expiry<String, MapSession> keepExpiryOnUpdate(Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String id, MapSession session, long currentTime) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(String id, MapSession session, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(String id, MapSession session, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private void flushTouches() {
+        if (pendingTouches.isEmpty()) {
+            return;
+        }
+        List<SessionStore.Touch> batch = new ArrayList<>(pendingTouches.size());
+        for (Map.Entry<String, SessionStore.Touch> entry : pendingTouches.entrySet()) {
+            // 꺼내는 사이에 더 최근 시각이 들어왔으면 그 값은 다음 주기에 쓴다
+            if (pendingTouches.remove(entry.getKey(), entry.getValue())) {
+                batch.add(entry.getValue());
+            }
+        }
+        try {
+            store.touch(batch);
+        } catch (RuntimeException e) {
+            log.warn("세션 접근 시각 {}건을 저장하지 못했습니다.", batch.size(), e);
+            batch.forEach(touch -> pendingTouches.putIfAbsent(touch.id(), touch));
+        }
+    }
+
+    private void deleteExpired() {
+        Instant before = Instant.now().minus(lastAccessWriteInterval);
+        try {
+            int deleted;
+            do {
+                deleted = store.deleteExpired(before, cleanupBatchSize);
+                if (expiredDeleted != null) {
+                    expiredDeleted.increment(deleted);
+                }
+            } while (deleted == cleanupBatchSize);
+        } catch (RuntimeException e) {
+            log.warn("만료된 세션을 정리하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 변경 여부를 기록하는 세션. 접근 시각만 바뀐 세션은 저장소에 즉시 쓰지 않는다.
+     */
+    public static final class CachedSession implements Session {
+
+        private final MapSession delegate;
+        private String originalId;
+        private boolean changed;
+
+        CachedSession(MapSession delegate, String originalId) {
+            this.delegate = delegate;
+            this.originalId = originalId;
+        }
+
+        boolean requiresFullWrite() {
+            return originalId == null || changed || !originalId.equals(delegate.getId());
+        }
+
+        void markSaved() {
+            originalId = delegate.getId();
+            changed = false;
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            delegate.setAttribute(attributeName, attributeValue);
+            changed = true;
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            delegate.removeAttribute(attributeName);
+            changed = true;
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            delegate.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            delegate.setMaxInactiveInterval(interval);
+            changed = true;
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate.isExpired();
+        }
+    }
+}
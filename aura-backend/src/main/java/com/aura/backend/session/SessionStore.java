@@ -0,0 +1,38 @@
+package com.aura.backend.session;
+
+import java.time.Instant;
+import java.util.Collection;
+import org.springframework.session.MapSession;
+
+/**
+ * 인스턴스 밖에 세션을 보관하는 저장소. NearCachingSessionRepository가 이 위에 캐시와 지연 쓰기를 얹는다.
+ */
+public interface SessionStore {
+
+    /**
+     * @return 만료되지 않은 세션, 없으면 null
+     */
+    MapSession load(String id);
+
+    /**
+     * 세션 전체를 저장한다. previousId가 있으면(세션 id 변경) 이전 id의 행은 지운다.
+     */
+    void save(MapSession session, String previousId);
+
+    /**
+     * 속성 변경 없이 마지막 접근 시각과 만료 시각만 모아서 갱신한다.
+     */
+    void touch(Collection<Touch> touches);
+
+    void delete(String id);
+
+    /**
+     * before 이전에 만료된 세션을 최대 limit건 지운다.
+     *
+     * @return 지운 행 수
+     */
+    int deleteExpired(Instant before, int limit);
+
+    record Touch(String id, Instant lastAccessedTime, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.aura.backend.session;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param store                   memory(기본, 서블릿 컨테이너 세션) 또는 jdbc(여러 인스턴스가 공유하는 PostgreSQL 저장소)
+ * @param timeout                 세션 유휴 만료 시간
+ * @param nearCacheTtl            인스턴스 안에 세션을 캐시해 두는 시간. 다른 인스턴스의 변경(로그아웃 등)은 이 시간 안에 반영된다
+ * @param nearCacheMaximumSize    인스턴스 안에 캐시하는 최대 세션 수
+ * @param lastAccessWriteInterval 마지막 접근 시각을 모아서 저장소에 쓰는 간격
+ * @param cleanupInterval         만료된 세션 정리 간격
+ * @param cleanupBatchSize        정리 시 한 문장으로 지우는 최대 행 수
+ */
+@ConfigurationProperties("aura.session")
+public record SessionStoreProperties(
+        String store,
+        Duration timeout,
+        Duration nearCacheTtl,
+        long nearCacheMaximumSize,
+        Duration lastAccessWriteInterval,
+        Duration cleanupInterval,
+        int cleanupBatchSize
+) {
+}
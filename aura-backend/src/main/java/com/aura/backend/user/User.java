@@ -3,10 +3,12 @@ package com.aura.backend.user;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -17,7 +19,11 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(name = "uk_user_email", columnNames = "email")
+}, indexes = {
+        // 소셜 로그인 조회용. LOCAL 사용자는 provider_id가 null이라 서로 겹치지 않는다
+        @Index(name = "uk_user_provider_provider_id", columnList = "provider, provider_id", unique = true)
 })
+@EntityListeners(UserEntityListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -47,4 +53,8 @@ public class User {
     @Builder.Default
     @Column(nullable = false, length = 20)
     private String role = "ROLE_USER";
+
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
 }
@@ -0,0 +1,7 @@
+package com.aura.backend.user;
+
+/**
+ * 사용자 레코드가 수정되거나 삭제되었을 때 발행된다.
+ */
+public record UserChangedEvent(Long userId, String email) {
+}
@@ -0,0 +1,20 @@
+package com.aura.backend.user;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    void onChange(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.aura.backend.user;
+
+import com.aura.backend.user.UserImportService.Format;
+import com.aura.backend.user.UserImportService.ImportResult;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 본문은 Content-Type에 따라 CSV(email,password,displayName, 첫 줄 헤더는 선택, 쉼표가 들어간 값은 큰따옴표로 감쌈) 또는 한 줄에 객체 하나인 NDJSON으로 읽는다.
+ */
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ImportResult importCsv(InputStream body) {
+        return userImportService.importUsers(body, Format.CSV);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ImportResult importNdjson(InputStream body) {
+        return userImportService.importUsers(body, Format.NDJSON);
+    }
+}
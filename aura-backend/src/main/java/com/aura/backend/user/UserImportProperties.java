@@ -0,0 +1,18 @@
+package com.aura.backend.user;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param batchSize       한 번의 insert로 넣는 행 수 (배치마다 따로 커밋된다)
+ * @param hashParallelism 동시에 해싱을 맡기는 행 수, 0이면 해싱 스레드 수의 절반 (로그인 몫을 남겨둔다)
+ * @param maxRows         한 요청에서 읽는 최대 행 수
+ * @param maxErrors       응답에 담는 거절 사유의 최대 개수 (건수는 모두 센다)
+ */
+@ConfigurationProperties("aura.users.import")
+public record UserImportProperties(
+        int batchSize,
+        int hashParallelism,
+        int maxRows,
+        int maxErrors
+) {
+}
@@ -0,0 +1,309 @@
+package com.aura.backend.user;
+
+import com.aura.backend.security.PasswordHashingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.json.JsonParseException;
+import org.springframework.boot.json.JsonParser;
+import org.springframework.boot.json.JsonParserFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 관리자용 사용자 일괄 등록. 요청 본문을 한 줄씩 읽어 batchSize 단위로 처리하므로 파일 크기와 상관없이 메모리 사용량이 일정하다.
+ *
+ * <p>배치마다 비밀번호를 해싱 풀에 hashParallelism개씩 나눠 맡기고, unnest 배열로 만든 insert 한 번에
+ * on conflict (email) do nothing을 걸어 이미 있는 이메일은 건너뛴다. 배치는 각각 커밋되므로
+ * 중간에 실패해도 같은 파일을 다시 올리면 이미 들어간 행은 skipped로 세고 나머지만 넣는다.
+ *
+ * <p>aura.users.import.rows{result=created|skipped|rejected}를 기록한다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final String INSERT = """
+            insert into users (email, display_name, password, provider, role)
+            select email, display_name, password, 'LOCAL', 'ROLE_USER'
+            from unnest(?, ?, ?) as t(email, display_name, password)
+            on conflict (email) do nothing
+            returning email
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final UserImportProperties properties;
+    private final int hashParallelism;
+    private final JsonParser jsonParser = JsonParserFactory.getJsonParser();
+
+    private final Counter createdRows;
+    private final Counter skippedRows;
+    private final Counter rejectedRows;
+
+    public UserImportService(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+                             UserImportProperties properties, PasswordHashingProperties hashingProperties,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+        this.hashParallelism = properties.hashParallelism() > 0
+                ? properties.hashParallelism()
+                : Math.max(1, hashingProperties.effectiveThreads() / 2);
+        this.createdRows = meterRegistry.counter("aura.users.import.rows", "result", "created");
+        this.skippedRows = meterRegistry.counter("aura.users.import.rows", "result", "skipped");
+        this.rejectedRows = meterRegistry.counter("aura.users.import.rows", "result", "rejected");
+    }
+
+    public ImportResult importUsers(InputStream body, Format format) {
+        Progress progress = new Progress(properties.maxErrors());
+        // 가상 스레드 hashParallelism개로 고정해 해싱 풀 대기열을 일괄 등록이 다 차지하지 않게 한다
+        try (ExecutorService hashers = Executors.newFixedThreadPool(hashParallelism,
+                     Thread.ofVirtual().name("user-import-", 0).factory());
+             BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            List<Row> batch = new ArrayList<>(properties.batchSize());
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && format == Format.CSV && isCsvHeader(line))) {
+                    continue;
+                }
+                if (progress.received >= properties.maxRows()) {
+                    throw new ResponseStatusException(HttpStatus.CONTENT_TOO_LARGE,
+                            "한 번에 " + properties.maxRows() + "행까지 등록할 수 있습니다.");
+                }
+                progress.received++;
+
+                Row row;
+                try {
+                    row = format == Format.CSV ? parseCsv(line) : parseJson(line);
+                } catch (IllegalArgumentException e) {
+                    progress.reject(lineNumber, e.getMessage());
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() == properties.batchSize()) {
+                    flush(batch, hashers, progress);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                flush(batch, hashers, progress);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            createdRows.increment(progress.created);
+            skippedRows.increment(progress.skipped);
+            rejectedRows.increment(progress.rejected);
+        }
+        log.info("사용자 일괄 등록 완료 (received={}, created={}, skipped={}, rejected={})",
+                progress.received, progress.created, progress.skipped, progress.rejected);
+        return progress.toResult();
+    }
+
+    private void flush(List<Row> batch, ExecutorService hashers, Progress progress) {
+        List<Future<String>> hashes = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            hashes.add(hashers.submit(() -> passwordEncoder.encode(row.password())));
+        }
+
+        int size = batch.size();
+        String[] emails = new String[size];
+        String[] displayNames = new String[size];
+        String[] passwords = new String[size];
+        for (int i = 0; i < size; i++) {
+            emails[i] = batch.get(i).email();
+            displayNames[i] = batch.get(i).displayName();
+            passwords[i] = await(hashes.get(i));
+        }
+
+        List<String> inserted = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT);
+            Array emailArray = connection.createArrayOf("varchar", emails);
+            Array displayNameArray = connection.createArrayOf("varchar", displayNames);
+            Array passwordArray = connection.createArrayOf("varchar", passwords);
+            statement.setArray(1, emailArray);
+            statement.setArray(2, displayNameArray);
+            statement.setArray(3, passwordArray);
+            return statement;
+        }, (rs, rowNum) -> rs.getString(1));
+
+        progress.created += inserted.size();
+        progress.skipped += size - inserted.size();
+    }
+
+    /**
+     * 해싱 풀이 포화돼 503이 나면 그대로 올려보낸다. 이미 커밋된 배치는 남는다.
+     */
+    private static String await(Future<String> hash) {
+        try {
+            return hash.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static boolean isCsvHeader(String line) {
+        return line.strip().toLowerCase(Locale.ROOT).startsWith("email,");
+    }
+
+    /**
+     * email,password,displayName 순서. 쉼표나 큰따옴표가 들어간 값은 RFC 4180처럼 큰따옴표로 감싸고 안의 "는 ""로 쓴다.
+     * 항목 수가 정확히 셋이 아니면 어느 쉼표가 구분자인지 알 수 없으므로 추측하지 않고 거절한다.
+     */
+    private static Row parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != 3) {
+            throw new IllegalArgumentException(
+                    "email,password,displayName 세 항목이 필요합니다. 쉼표가 들어간 값은 큰따옴표로 감싸주세요.");
+        }
+        return validate(fields.get(0), fields.get(1), fields.get(2));
+    }
+
+    /**
+     * 한 줄을 읽으므로 따옴표 안의 줄바꿈은 지원하지 않는다.
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        int length = line.length();
+        while (true) {
+            field.setLength(0);
+            if (i < length && line.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i >= length) {
+                        throw new IllegalArgumentException("큰따옴표가 닫히지 않았습니다. 값 안의 줄바꿈은 지원하지 않습니다.");
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < length && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < length && line.charAt(i) != ',') {
+                    throw new IllegalArgumentException("닫는 큰따옴표 뒤에는 쉼표가 와야 합니다.");
+                }
+            } else {
+                int end = line.indexOf(',', i);
+                if (end < 0) {
+                    end = length;
+                }
+                if (line.indexOf('"', i) >= 0 && line.indexOf('"', i) < end) {
+                    throw new IllegalArgumentException("큰따옴표가 들어간 값은 전체를 큰따옴표로 감싸야 합니다.");
+                }
+                field.append(line, i, end);
+                i = end;
+            }
+            fields.add(field.toString());
+            if (i >= length) {
+                return fields;
+            }
+            i++;
+        }
+    }
+
+    private Row parseJson(String line) {
+        Map<String, Object> fields;
+        try {
+            fields = jsonParser.parseMap(line);
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+        }
+        return validate(asString(fields.get("email")), asString(fields.get("password")),
+                asString(fields.get("displayName")));
+    }
+
+    private static String asString(Object value) {
+        return value instanceof String string ? string : null;
+    }
+
+    /**
+     * RegisterRequest와 같은 규칙을 적용한다.
+     */
+    private static Row validate(String email, String password, String displayName) {
+        email = email == null ? "" : email.strip();
+        displayName = displayName == null ? "" : displayName.strip();
+        int at = email.indexOf('@');
+        if (at <= 0 || at != email.lastIndexOf('@') || at == email.length() - 1 || email.length() > 100) {
+            throw new IllegalArgumentException("유효한 이메일을 입력해주세요.");
+        }
+        if (password == null || password.length() < 8) {
+            throw new IllegalArgumentException("비밀번호는 8자 이상이어야 합니다.");
+        }
+        if (displayName.isEmpty() || displayName.length() > 100) {
+            throw new IllegalArgumentException("이름은 필수입니다.");
+        }
+        return new Row(email, password, displayName);
+    }
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    public record ImportResult(int received, int created, int skipped, int rejected, List<RejectedRow> errors) {
+    }
+
+    public record RejectedRow(int line, String reason) {
+    }
+
+    private record Row(String email, String password, String displayName) {
+    }
+
+    private static final class Progress {
+
+        private final int maxErrors;
+        private final List<RejectedRow> errors = new ArrayList<>();
+        private int received;
+        private int created;
+        private int skipped;
+        private int rejected;
+
+        private Progress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void reject(int line, String reason) {
+            rejected++;
+            if (errors.size() < maxErrors) {
+                errors.add(new RejectedRow(line, reason));
+            }
+        }
+
+        private ImportResult toResult() {
+            return new ImportResult(received, created, skipped, rejected, List.copyOf(errors));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+-- fast-startup 프로필의 기준 스키마. ddl-auto(update)로 만들어진 기존 DB에도 그대로 적용할 수 있도록
+-- 모든 문장을 IF NOT EXISTS로 작성했다 (baseline-version 0이므로 기존 DB에서도 V1이 실행된다).
+
+CREATE TABLE IF NOT EXISTS users (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email        varchar(100) NOT NULL,
+    display_name varchar(100) NOT NULL,
+    password     varchar(255),
+    provider     varchar(20)  NOT NULL,
+    provider_id  varchar(200),
+    role         varchar(20)  NOT NULL,
+    CONSTRAINT uk_user_email UNIQUE (email)
+);
+
+CREATE SEQUENCE IF NOT EXISTS note_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS notes (
+    id         bigint PRIMARY KEY,
+    owner_id   bigint REFERENCES users (id),
+    title      varchar(200)  NOT NULL,
+    content    varchar(2000) NOT NULL,
+    created_at timestamp(6)  NOT NULL
+);
+
+-- 소유자 도입 전에 만들어진 notes 테이블
+ALTER TABLE notes ADD COLUMN IF NOT EXISTS owner_id bigint REFERENCES users (id);
+
+CREATE INDEX IF NOT EXISTS idx_note_created_at_id ON notes (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_note_owner_created_at_id ON notes (owner_id, created_at DESC, id DESC);
+
+-- 전문 검색 (db/notes-search.sql과 같은 정의)
+ALTER TABLE notes ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(content, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_note_search_vector ON notes USING gin (search_vector);
+
+-- 기존 행과 id가 겹치지 않도록 시퀀스를 현재 최대 id 이후로 맞춘다 (db/notes-id-sequence.sql과 같음)
+SELECT setval('note_id_seq', GREATEST(
+        (SELECT last_value FROM note_id_seq),
+        (SELECT coalesce(max(id), 0) FROM notes) + 50));
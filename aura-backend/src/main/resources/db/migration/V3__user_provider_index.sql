@@ -0,0 +1,2 @@
+-- 소셜 로그인 사용자를 (provider, provider_id)로 찾는다. LOCAL 사용자는 provider_id가 NULL이라 유니크 제약에 걸리지 않는다.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_user_provider_provider_id ON users (provider, provider_id);
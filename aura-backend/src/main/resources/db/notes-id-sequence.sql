@@ -0,0 +1,5 @@
+-- notes.id를 IDENTITY에서 note_id_seq(increment 50, pooled optimizer)로 옮긴 뒤,
+-- 기존 행과 id가 겹치지 않도록 시퀀스를 현재 최대 id 이후로 맞춘다 (반복 실행해도 안전)
+SELECT setval('note_id_seq', GREATEST(
+        (SELECT last_value FROM note_id_seq),
+        (SELECT coalesce(max(id), 0) FROM notes) + 50));
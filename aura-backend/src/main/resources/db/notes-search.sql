@@ -0,0 +1,9 @@
+-- 노트 전문 검색용 tsvector 컬럼과 GIN 인덱스 (Hibernate ddl-auto 이후 실행, 반복 실행해도 안전)
+-- 한국어 사전이 없으므로 형태소 분석 없이 공백 단위로 토큰화하는 'simple' 설정을 쓴다.
+ALTER TABLE notes ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(content, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_note_search_vector ON notes USING gin (search_vector);
@@ -0,0 +1,8 @@
+-- 토큰 모드의 1회용 refresh 토큰 (반복 실행해도 안전, fast-startup 프로필은 V4 마이그레이션으로 적용)
+CREATE TABLE IF NOT EXISTS aura_refresh_token (
+    token_id   varchar(64) PRIMARY KEY,
+    user_id    bigint      NOT NULL,
+    expires_at timestamptz NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_aura_refresh_token_user_id ON aura_refresh_token (user_id);
@@ -0,0 +1,13 @@
+-- aura.session.store=jdbc용 공유 세션 테이블 (반복 실행해도 안전, fast-startup 프로필은 V2 마이그레이션으로 적용)
+CREATE TABLE IF NOT EXISTS aura_session (
+    session_id           varchar(64)  PRIMARY KEY,
+    principal_name       varchar(100),
+    created_at           timestamptz  NOT NULL,
+    last_accessed_at     timestamptz  NOT NULL,
+    max_inactive_seconds integer      NOT NULL,
+    expires_at           timestamptz  NOT NULL,
+    attributes           bytea        NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_aura_session_expires_at ON aura_session (expires_at);
+CREATE INDEX IF NOT EXISTS idx_aura_session_principal_name ON aura_session (principal_name);
@@ -0,0 +1,66 @@
+package com.aura.backend;
+
+import com.aura.backend.note.NoteRepository;
+import com.aura.backend.user.UserRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * fast-startup 프로필은 ddl-auto 없이 Flyway 마이그레이션만으로 스키마를 만든다.
+ * 빈 스키마에 V1부터 모두 적용한 뒤 Hibernate validate로 엔티티 매핑과 어긋나지 않는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("fast-startup")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FastStartupMigrationTest {
+
+    private static final String SCHEMA = "fast_startup_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+
+    @DynamicPropertySource
+    static void emptySchema(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.hikari.schema", () -> SCHEMA);
+        registry.add("spring.flyway.default-schema", () -> SCHEMA);
+        registry.add("spring.flyway.schemas", () -> SCHEMA);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.jpa.properties.hibernate.default_schema", () -> SCHEMA);
+        // validate는 DB 메타데이터를 읽어야 한다
+        registry.add("spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access", () -> "true");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @AfterAll
+    void dropSchema() {
+        jdbcTemplate.execute("drop schema if exists " + SCHEMA + " cascade");
+    }
+
+    @Test
+    @DisplayName("Flyway 마이그레이션만으로 만든 스키마가 엔티티 매핑 검증(ddl-auto=validate)을 통과한다")
+    void migrationsMatchEntityMappings() {
+        // lazy-initialization이라 저장소를 쓰는 시점에 EntityManagerFactory가 만들어지며 검증된다
+        assertThat(userRepository.count()).isZero();
+        assertThat(noteRepository.count()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from " + SCHEMA
+                + ".flyway_schema_history where type = 'SQL' and success", Integer.class)).isPositive();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from " + SCHEMA
+                + ".flyway_schema_history where not success", Integer.class)).isZero();
+    }
+}
@@ -0,0 +1,100 @@
+package com.aura.backend.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthEventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 파일로 넘어가고, 리더는 모든 세그먼트를 조건으로 걸러 읽는다")
+    void rollsOverSegmentsAndFiltersOnRead() throws Exception {
+        // 헤더 슬롯 하나 + 이벤트 4건
+        AuthEventJournal journal = new AuthEventJournal(new AuthJournalProperties(true, directory,
+                DataSize.ofBytes(5 * AuthJournalFormat.RECORD_SIZE), Duration.ofHours(1), Duration.ZERO, 100),
+                new SimpleMeterRegistry());
+        journal.start();
+        for (long i = 1; i <= 9; i++) {
+            journal.record(AuthEventType.LOGIN, i, "member" + i + "@example.com", "10.0.0." + i);
+        }
+        journal.record(AuthEventType.LOGIN_FAILED, null, "Target@Example.com", "2001:db8::1");
+        CountDownLatch stopped = new CountDownLatch(1);
+        journal.stop(stopped::countDown);
+        assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(3);
+        }
+
+        AuthJournalReader reader = new AuthJournalReader(directory);
+        assertThat(reader.count(AuthJournalReader.Filter.all()))
+                .isEqualTo(new AuthJournalReader.ScanResult(10, 10));
+
+        List<AuthEvent> failures = new ArrayList<>();
+        reader.scan(new AuthJournalReader.Filter(null, null, Set.of(AuthEventType.LOGIN_FAILED), null,
+                "target@example.com", null), failures::add);
+        assertThat(failures).singleElement().satisfies(event -> {
+            assertThat(event.userId()).isNull();
+            assertThat(event.email()).isEqualTo("target@example.com");
+            assertThat(event.remoteAddress()).isEqualTo("2001:db8:0:0:0:0:0:1");
+        });
+
+        assertThat(reader.count(new AuthJournalReader.Filter(null, null, null, null, null, "10.0.0.7")).matched())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("새 세그먼트를 열 때 보존 기간이 지난 세그먼트만 지운다")
+    void deletesSegmentsPastRetention() throws Exception {
+        Path expired = Files.createFile(directory.resolve("auth-20250101T000000Z-0000.journal"));
+        Files.setLastModifiedTime(expired, FileTime.from(Instant.now().minus(Duration.ofDays(31))));
+        Path recent = Files.createFile(directory.resolve("auth-20250102T000000Z-0000.journal"));
+        Files.setLastModifiedTime(recent, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        Path unrelated = Files.createFile(directory.resolve("notes.txt"));
+        Files.setLastModifiedTime(unrelated, FileTime.from(Instant.now().minus(Duration.ofDays(90))));
+
+        AuthEventJournal journal = new AuthEventJournal(new AuthJournalProperties(true, directory,
+                DataSize.ofKilobytes(4), Duration.ofHours(1), Duration.ofDays(30), 100),
+                new SimpleMeterRegistry());
+        journal.start();
+        journal.record(AuthEventType.LOGIN, 1L, "member@example.com", "10.0.0.1");
+        CountDownLatch stopped = new CountDownLatch(1);
+        journal.stop(stopped::countDown);
+        assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(expired).doesNotExist();
+        assertThat(recent).exists();
+        assertThat(unrelated).exists();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("긴 이메일은 UTF-8 문자 경계에서 자른다")
+    void truncatesEmailOnCharacterBoundary() {
+        byte[] encoded = AuthJournalFormat.encodeEmail("가".repeat(40) + "@example.com");
+
+        assertThat(encoded.length).isLessThanOrEqualTo(AuthJournalFormat.EMAIL_BYTES);
+        assertThat(new String(encoded, StandardCharsets.UTF_8)).isEqualTo("가".repeat(AuthJournalFormat.EMAIL_BYTES / 3));
+    }
+}
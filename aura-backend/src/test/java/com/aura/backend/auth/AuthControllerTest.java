@@ -2,18 +2,33 @@ package com.aura.backend.auth;
 
 import com.aura.backend.auth.dto.LoginRequest;
 import com.aura.backend.auth.dto.RegisterRequest;
+import com.aura.backend.security.UserPrincipal;
+import com.aura.backend.user.AuthProvider;
+import com.aura.backend.user.User;
 import com.aura.backend.user.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -30,6 +45,9 @@ class AuthControllerTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     @BeforeEach
     void clean() {
         userRepository.deleteAll();
@@ -55,6 +73,50 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.email").value(registerRequest.email()));
     }
 
+    @Test
+    @DisplayName("세션에 저장되는 인증 정보에는 비밀번호 해시가 남지 않는다")
+    void sessionPrincipalHasNoPassword() throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest("session@example.com", "password123", "세션 사용자");
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk());
+
+        MockHttpSession session = new MockHttpSession();
+        mockMvc.perform(post("/api/auth/login")
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new LoginRequest(registerRequest.email(), registerRequest.password()))))
+                .andExpect(status().isOk());
+
+        SecurityContext context = (SecurityContext) session.getAttribute(
+                HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+        UserPrincipal principal = (UserPrincipal) context.getAuthentication().getPrincipal();
+        assertThat(principal.getEmail()).isEqualTo(registerRequest.email());
+        assertThat(principal.getPassword()).isNull();
+    }
+
+    @Test
+    @DisplayName("작업 계수가 낮은 해시로 로그인하면 설정된 계수로 다시 해싱해 저장한다")
+    void upgradesWeakHashOnLogin() throws Exception {
+        userRepository.save(User.builder()
+                .email("legacy@example.com")
+                .displayName("예전 사용자")
+                .password(new BCryptPasswordEncoder(4).encode("password123"))
+                .provider(AuthProvider.LOCAL)
+                .build());
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("legacy@example.com", "password123"))))
+                .andExpect(status().isOk());
+
+        String stored = userRepository.findByEmail("legacy@example.com").orElseThrow().getPassword();
+        assertThat(stored).startsWith("$2a$10$");
+        assertThat(passwordEncoder.matches("password123", stored)).isTrue();
+    }
+
     @Test
     @DisplayName("중복 이메일 가입 시 409 에러를 반환한다")
     void duplicateEmailFails() throws Exception {
@@ -71,6 +133,18 @@ class AuthControllerTest {
                 .andExpect(status().isConflict());
     }
 
+    @Test
+    @DisplayName("이메일 중복이 아닌 무결성 위반은 409로 바꾸지 않는다")
+    void otherIntegrityViolationIsNotConflict() {
+        RegisterRequest registerRequest = new RegisterRequest("long@example.com", "password123", "가".repeat(101));
+
+        assertThatThrownBy(() -> mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest))))
+                .isInstanceOf(ServletException.class)
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+    }
+
     @Test
     @DisplayName("잘못된 비밀번호로 로그인 시 401을 반환한다")
     void loginFailsWithWrongPassword() throws Exception {
@@ -87,4 +161,32 @@ class AuthControllerTest {
                         .content(objectMapper.writeValueAsString(badLoginRequest)))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @DisplayName("한 IP에서 같은 계정으로 계속 실패하면 429와 Retry-After로 응답한다")
+    void throttlesRepeatedLoginWithRetryAfter() throws Exception {
+        LoginRequest loginRequest = new LoginRequest("throttled@example.com", "badpassword");
+        // 다른 테스트의 로그인과 한도를 나눠 쓰지 않도록 별도 주소에서 보낸다
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                            .with(remoteAddress("203.0.113.50"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(loginRequest)))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/auth/login")
+                        .with(remoteAddress("203.0.113.50"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"));
+    }
+
+    private static RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
 }
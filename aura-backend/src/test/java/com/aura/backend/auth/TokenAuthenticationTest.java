@@ -0,0 +1,126 @@
+package com.aura.backend.auth;
+
+import com.aura.backend.auth.dto.LoginRequest;
+import com.aura.backend.auth.dto.RefreshTokenRequest;
+import com.aura.backend.auth.dto.RegisterRequest;
+import com.aura.backend.user.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "aura.auth.token.enabled=true",
+        "aura.auth.token.secret=test-secret-for-token-mode-0123456789abcdef",
+        // 같은 계정으로 여러 번 로그인하므로 계정별 시도 제한은 끈다
+        "aura.security.login-rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+class TokenAuthenticationTest {
+
+    private static final String EMAIL = "token@example.com";
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void register() throws Exception {
+        userRepository.deleteAll();
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest(EMAIL, PASSWORD, "토큰 사용자"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tokens.accessToken").isNotEmpty())
+                .andExpect(jsonPath("$.tokens.refreshToken").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("로그인으로 받은 access 토큰으로 노트 API를 호출하고, 토큰이 없으면 401을 받는다")
+    void loginIssuesTokensUsableAsBearer() throws Exception {
+        JsonNode tokens = login();
+
+        mockMvc.perform(get("/api/notes").header(HttpHeaders.AUTHORIZATION, bearer(tokens)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, bearer(tokens)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(EMAIL));
+        mockMvc.perform(get("/api/notes"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("refresh 토큰은 한 번만 쓸 수 있고, 다시 쓰면 그 사용자의 refresh 토큰이 모두 폐기된다")
+    void refreshTokenIsSingleUse() throws Exception {
+        JsonNode first = login();
+
+        JsonNode second = readTokens(refresh(first.get("refreshToken").asText())
+                .andExpect(status().isOk()));
+        assertThat(second.get("refreshToken").asText()).isNotEqualTo(first.get("refreshToken").asText());
+        mockMvc.perform(get("/api/notes").header(HttpHeaders.AUTHORIZATION, bearer(second)))
+                .andExpect(status().isOk());
+
+        refresh(first.get("refreshToken").asText()).andExpect(status().isUnauthorized());
+        refresh(second.get("refreshToken").asText()).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("access 토큰은 refresh 토큰으로 쓸 수 없다")
+    void rejectsAccessTokenAsRefreshToken() throws Exception {
+        JsonNode tokens = login();
+
+        refresh(tokens.get("accessToken").asText()).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 발급된 refresh 토큰을 더 이상 쓸 수 없다")
+    void logoutRevokesRefreshTokens() throws Exception {
+        JsonNode tokens = login();
+
+        mockMvc.perform(post("/api/auth/logout").header(HttpHeaders.AUTHORIZATION, bearer(tokens)))
+                .andExpect(status().isOk());
+
+        refresh(tokens.get("refreshToken").asText()).andExpect(status().isUnauthorized());
+    }
+
+    private JsonNode login() throws Exception {
+        return readTokens(mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(EMAIL, PASSWORD))))
+                .andExpect(status().isOk()));
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))));
+    }
+
+    private JsonNode readTokens(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString()).get("tokens");
+    }
+
+    private static String bearer(JsonNode tokens) {
+        return "Bearer " + tokens.get("accessToken").asText();
+    }
+}
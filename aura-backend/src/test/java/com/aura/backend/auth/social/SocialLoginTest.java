@@ -0,0 +1,108 @@
+package com.aura.backend.auth.social;
+
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SocialLoginTest {
+
+    private static final StubOidcProvider STUB = StubOidcProvider.start();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void stubProviders(DynamicPropertyRegistry registry) {
+        String google = "aura.auth.social.providers.google.";
+        registry.add(google + "client-id", () -> StubOidcProvider.CLIENT_ID);
+        registry.add(google + "client-secret", () -> StubOidcProvider.CLIENT_SECRET);
+        registry.add(google + "token-uri", () -> STUB.baseUrl() + "/token");
+        registry.add(google + "jwk-set-uri", () -> STUB.baseUrl() + "/jwks");
+        registry.add(google + "issuers", STUB::issuer);
+
+        String naver = "aura.auth.social.providers.naver.";
+        registry.add(naver + "client-id", () -> StubOidcProvider.CLIENT_ID);
+        registry.add(naver + "client-secret", () -> StubOidcProvider.CLIENT_SECRET);
+        registry.add(naver + "token-uri", () -> STUB.baseUrl() + "/token");
+        registry.add(naver + "user-info-uri", () -> STUB.baseUrl() + "/me");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Test
+    @DisplayName("ID 토큰으로 처음 로그인하면 가입되고, 다시 로그인하면 같은 사용자이며 키 세트는 한 번만 받는다")
+    void oidcLoginCreatesUserOnceAndCachesKeys() throws Exception {
+        String email = "google-" + UUID.randomUUID() + "@example.com";
+        STUB.signInAs(UUID.randomUUID().toString(), email);
+
+        MvcResult first = login("google", StubOidcProvider.VALID_CODE)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(email))
+                .andExpect(jsonPath("$.provider").value("GOOGLE"))
+                .andReturn();
+        MvcResult second = login("google", StubOidcProvider.VALID_CODE)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(second.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+        assertThat(STUB.keySetRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ID 토큰이 없는 제공자는 프로필 API로 사용자를 확인한다")
+    void profileLoginForProvidersWithoutIdToken() throws Exception {
+        String email = "naver-" + UUID.randomUUID() + "@example.com";
+        STUB.signInAs(UUID.randomUUID().toString(), email);
+
+        login("naver", StubOidcProvider.VALID_CODE)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(email))
+                .andExpect(jsonPath("$.provider").value("NAVER"));
+    }
+
+    @Test
+    @DisplayName("잘못된 인가 코드는 401, 설정되지 않은 제공자는 404를 반환한다")
+    void rejectsInvalidCodeAndUnknownProvider() throws Exception {
+        login("google", "wrong-code").andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/api/auth/social/kakao")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("any")))
+                .andExpect(status().isNotFound());
+    }
+
+    private ResultActions login(String provider, String code) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/auth/social/" + provider)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(code)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+
+    private static String body(String code) {
+        return "{\"code\":\"" + code + "\",\"redirectUri\":\"http://localhost:5173/oauth/callback\"}";
+    }
+}
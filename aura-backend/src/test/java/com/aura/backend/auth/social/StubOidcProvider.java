@@ -0,0 +1,159 @@
+package com.aura.backend.auth.social;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 네트워크 없이 소셜 로그인 흐름을 시험하기 위한 로컬 제공자.
+ * /token(인가 코드 교환, RS256 ID 토큰 발급), /jwks(공개 키 세트), /me(네이버 형식 프로필)를 제공한다.
+ */
+final class StubOidcProvider implements AutoCloseable {
+
+    static final String CLIENT_ID = "stub-client";
+    static final String CLIENT_SECRET = "stub-secret";
+    static final String VALID_CODE = "valid-code";
+    static final String ACCESS_TOKEN = "stub-access-token";
+
+    private final HttpServer server;
+    private final RSAKey signingKey;
+    private final AtomicInteger keySetRequests = new AtomicInteger();
+
+    private volatile String subject = "stub-user";
+    private volatile String email = "social@example.com";
+
+    private StubOidcProvider(HttpServer server, RSAKey signingKey) {
+        this.server = server;
+        this.signingKey = signingKey;
+    }
+
+    static StubOidcProvider start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            StubOidcProvider provider = new StubOidcProvider(server,
+                    new RSAKeyGenerator(2048).keyID("stub-key").generate());
+            server.createContext("/token", provider::token);
+            server.createContext("/jwks", provider::keySet);
+            server.createContext("/me", provider::profile);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.start();
+            return provider;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    String issuer() {
+        return baseUrl();
+    }
+
+    int keySetRequests() {
+        return keySetRequests.get();
+    }
+
+    /**
+     * 다음 로그인에서 돌려줄 사용자를 바꾼다.
+     */
+    void signInAs(String subject, String email) {
+        this.subject = subject;
+        this.email = email;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        Map<String, String> form = parseForm(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        if (!VALID_CODE.equals(form.get("code")) || !CLIENT_SECRET.equals(form.get("client_secret"))) {
+            respond(exchange, 400, "{\"error\":\"invalid_grant\"}");
+            return;
+        }
+        respond(exchange, 200, "{\"access_token\":\"" + ACCESS_TOKEN + "\",\"token_type\":\"Bearer\",\"expires_in\":300,"
+                + "\"id_token\":\"" + idToken() + "\"}");
+    }
+
+    private void keySet(HttpExchange exchange) throws IOException {
+        keySetRequests.incrementAndGet();
+        respond(exchange, 200, new JWKSet(signingKey.toPublicJWK()).toString());
+    }
+
+    private void profile(HttpExchange exchange) throws IOException {
+        if (!("Bearer " + ACCESS_TOKEN).equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+            respond(exchange, 401, "{\"resultcode\":\"024\",\"message\":\"Authentication failed\"}");
+            return;
+        }
+        respond(exchange, 200, "{\"resultcode\":\"00\",\"message\":\"success\",\"response\":{\"id\":\"" + subject
+                + "\",\"email\":\"" + email + "\",\"name\":\"스텁 사용자\"}}");
+    }
+
+    private String idToken() {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuer())
+                .audience(CLIENT_ID)
+                .subject(subject)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(300)))
+                .claim("email", email)
+                .claim("email_verified", true)
+                .claim("name", "스텁 사용자")
+                .build();
+        try {
+            SignedJWT jwt = new SignedJWT(
+                    new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+            jwt.sign(new RSASSASigner(signingKey));
+            return jwt.serialize();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, String> parseForm(String body) {
+        Map<String, String> form = new HashMap<>();
+        for (String pair : body.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                form.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return form;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
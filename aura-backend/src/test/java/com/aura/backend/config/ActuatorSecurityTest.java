@@ -0,0 +1,46 @@
+package com.aura.backend.config;
+
+import com.aura.backend.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("애플리케이션 포트의 메트릭 엔드포인트는 로그인하지 않으면 401, ADMIN이 아니면 403이다")
+    void metricsRequireAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(user("user").roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Hibernate가 실행한 문장은 aura.db.statement 타이머에 기록된다")
+    void recordsStatementTimings() throws Exception {
+        userRepository.count();
+
+        mockMvc.perform(get("/actuator/metrics/aura.db.statement").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk());
+    }
+}
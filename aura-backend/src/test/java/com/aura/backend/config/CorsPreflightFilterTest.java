@@ -0,0 +1,76 @@
+package com.aura.backend.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.CorsConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorsPreflightFilterTest {
+
+    private final CorsPreflightFilter filter = new CorsPreflightFilter("/api/", configuration());
+
+    @Test
+    @DisplayName("허용된 Origin의 프리플라이트는 체인을 거치지 않고 바로 200으로 응답한다")
+    void answersAllowedPreflightWithoutChain() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(preflight("http://localhost:5173", "POST"), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Access-Control-Allow-Origin")).isEqualTo("http://localhost:5173");
+        assertThat(response.getHeader("Access-Control-Allow-Headers")).isEqualTo("content-type, authorization");
+        assertThat(response.getHeader("Access-Control-Allow-Credentials")).isEqualTo("true");
+        assertThat(response.getHeader("Access-Control-Max-Age")).isEqualTo("1800");
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 Origin이나 메서드는 403으로 거절한다")
+    void rejectsDisallowedPreflight() throws Exception {
+        MockHttpServletResponse unknownOrigin = new MockHttpServletResponse();
+        filter.doFilter(preflight("https://evil.example", "GET"), unknownOrigin, new MockFilterChain());
+        MockHttpServletResponse unknownMethod = new MockHttpServletResponse();
+        filter.doFilter(preflight("http://localhost:5173", "PATCH"), unknownMethod, new MockFilterChain());
+
+        assertThat(unknownOrigin.getStatus()).isEqualTo(403);
+        assertThat(unknownOrigin.getHeader("Access-Control-Allow-Origin")).isNull();
+        assertThat(unknownMethod.getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    @DisplayName("프리플라이트가 아닌 요청은 다음 필터로 넘긴다")
+    void passesThroughOtherRequests() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/notes");
+        request.addHeader("Origin", "http://localhost:5173");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    private static MockHttpServletRequest preflight(String origin, String method) {
+        MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/api/notes");
+        request.addHeader("Origin", origin);
+        request.addHeader("Access-Control-Request-Method", method);
+        request.addHeader("Access-Control-Request-Headers", "content-type, authorization");
+        return request;
+    }
+
+    private static CorsConfiguration configuration() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(List.of("http://localhost:5173"));
+        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedHeaders(List.of("*"));
+        configuration.setAllowCredentials(true);
+        configuration.setMaxAge(Duration.ofMinutes(30));
+        return configuration;
+    }
+}
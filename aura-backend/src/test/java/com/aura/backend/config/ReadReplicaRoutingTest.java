@@ -0,0 +1,118 @@
+package com.aura.backend.config;
+
+import com.aura.backend.note.NoteRepository;
+import com.aura.backend.note.NoteService;
+import com.aura.backend.note.NoteSummary;
+import com.aura.backend.note.RecentNotesCache;
+import com.aura.backend.note.RecentNotesCacheProperties;
+import com.aura.backend.security.CustomUserDetailsService;
+import com.aura.backend.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인메모리 DB 두 개를 primary와 복제본으로 두고, 트랜잭션의 readOnly 여부에 따라 어느 쪽에서 읽는지 확인한다.
+ */
+class ReadReplicaRoutingTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void createDatabases() {
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서, 쓰기 트랜잭션은 primary에서 실행된다")
+    void routesByTransactionReadOnlyFlag() {
+        DataSource routing = ReadReplicaConfig.routingDataSource(primary,
+                new ReplicaFailoverDataSource(replica, primary, Duration.ofSeconds(30), meterRegistry));
+
+        assertThat(serverName(routing, true)).isEqualTo("replica");
+        assertThat(serverName(routing, false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제본에 연결할 수 없으면 읽기 전용 트랜잭션도 primary에서 실행된다")
+    void fallsBackToPrimaryWhenReplicaIsDown() {
+        DriverManagerDataSource unreachable = new DriverManagerDataSource("jdbc:h2:tcp://127.0.0.1:1/unreachable");
+        DataSource routing = ReadReplicaConfig.routingDataSource(primary,
+                new ReplicaFailoverDataSource(unreachable, primary, Duration.ofSeconds(30), meterRegistry));
+
+        assertThat(serverName(routing, true)).isEqualTo("primary");
+        assertThat(serverName(routing, true)).isEqualTo("primary");
+        assertThat(meterRegistry.counter("aura.datasource.replica.fallback").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("로그인 시 사용자 조회는 readOnly 트랜잭션이 아니므로 복제본 지연과 무관하게 primary에서 읽는다")
+    void loadsUserDetailsFromPrimary() throws NoSuchMethodException {
+        TransactionAttribute attribute = new AnnotationTransactionAttributeSource().getTransactionAttribute(
+                CustomUserDetailsService.class.getMethod("loadUserByUsername", String.class),
+                CustomUserDetailsService.class);
+
+        assertThat(attribute).isNotNull();
+        assertThat(attribute.isReadOnly()).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시로 답하지 못한 노트 목록 첫 페이지는 쓰기 트랜잭션으로 읽어 primary에서 가져온다")
+    void readsFirstNotePageFromPrimary() {
+        DataSource routing = ReadReplicaConfig.routingDataSource(primary,
+                new ReplicaFailoverDataSource(replica, primary, Duration.ofSeconds(30), meterRegistry));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        NoteRepository noteRepository = mock(NoteRepository.class);
+        // 저장소 호출이 실제로 어느 DB에서 실행되는지를 노트 제목으로 돌려준다
+        when(noteRepository.findSummaries(any(), any(Limit.class))).thenAnswer(invocation -> List.of(new NoteSummary(
+                1L, new JdbcTemplate(routing).queryForObject("select name from server", String.class),
+                "내용", LocalDateTime.now())));
+        NoteService noteService = new NoteService(noteRepository, mock(UserRepository.class),
+                mock(ApplicationEventPublisher.class),
+                new RecentNotesCache(noteRepository, new RecentNotesCacheProperties(false, 10, 1000,
+                        Duration.ofMinutes(1), 0), transactionManager, meterRegistry),
+                new TransactionTemplate(transactionManager));
+
+        assertThat(noteService.getNotes(1L, null, 20).notes())
+                .extracting(NoteSummary::title)
+                .containsExactly("primary");
+    }
+
+    private static String serverName(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from server", String.class));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table server (name varchar(20))");
+        jdbc.update("insert into server values (?)", name);
+        return dataSource;
+    }
+}
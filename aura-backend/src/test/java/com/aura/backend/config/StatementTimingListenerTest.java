@@ -0,0 +1,30 @@
+package com.aura.backend.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementTimingListenerTest {
+
+    @Test
+    @DisplayName("문장과 배치 실행을 각각 한 번씩 센다")
+    void recordsEachStatementAndBatch() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StatementTimingListener listener = new StatementTimingListener(meterRegistry);
+
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+        listener.jdbcExecuteBatchStart();
+        listener.jdbcExecuteBatchEnd();
+        // 같은 레지스트리를 쓰는 다른 세션의 리스너도 같은 타이머에 더한다
+        StatementTimingListener other = new StatementTimingListener(meterRegistry);
+        other.jdbcExecuteStatementStart();
+        other.jdbcExecuteStatementEnd();
+
+        Timer timer = meterRegistry.get(StatementTimingListener.METRIC).timer();
+        assertThat(timer.count()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,284 @@
+package com.aura.backend.note;
+
+import com.aura.backend.security.UserPrincipal;
+import com.aura.backend.user.AuthProvider;
+import com.aura.backend.user.User;
+import com.aura.backend.user.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.test.context.TestSecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class NoteControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecentNotesCache recentNotesCache;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void signIn() {
+        noteRepository.deleteAll();
+        User owner = saveUser();
+        ownerId = owner.getId();
+        UserPrincipal principal = new UserPrincipal(owner);
+        TestSecurityContextHolder.setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void clean() {
+        // 다른 테스트가 users를 비울 수 있도록 노트를 먼저 지운다
+        noteRepository.deleteAll();
+        TestSecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 모든 노트를 중복 없이 최신순으로 조회한다")
+    void pagesThroughNotesWithCursor() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            noteService.createNote(ownerId, "제목 " + i, "내용 " + i);
+        }
+
+        JsonNode first = readJson(mockMvc.perform(get("/api/notes").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andReturn().getResponse().getContentAsString());
+        JsonNode second = readJson(mockMvc.perform(get("/api/notes")
+                        .param("limit", "2")
+                        .param("cursor", first.get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        JsonNode last = readJson(mockMvc.perform(get("/api/notes")
+                        .param("limit", "2")
+                        .param("cursor", second.get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andReturn().getResponse().getContentAsString());
+
+        assertThat(last.get("nextCursor").isNull()).isTrue();
+        assertThat(first.get("items").get(1).get("id").asLong())
+                .isGreaterThan(second.get("items").get(0).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("최대 페이지 크기를 넘는 limit은 서버 최대값으로 제한된다")
+    void limitIsCappedAtServerMaximum() throws Exception {
+        for (int i = 0; i < NoteService.MAX_PAGE_SIZE + 1; i++) {
+            noteService.createNote(ownerId, "제목 " + i, "내용");
+        }
+
+        mockMvc.perform(get("/api/notes").param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(NoteService.MAX_PAGE_SIZE))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("목록은 본문 미리보기만 내려주고, 전체 본문은 단건 조회로 가져온다")
+    void listReturnsPreviewAndDetailReturnsFullContent() throws Exception {
+        String content = "가".repeat(NoteSummary.PREVIEW_LENGTH + 30);
+        Long id = noteService.createNote(ownerId, "긴 노트", content).getId();
+
+        mockMvc.perform(get("/api/notes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].preview").value("가".repeat(NoteSummary.PREVIEW_LENGTH)))
+                .andExpect(jsonPath("$.items[0].truncated").value(true))
+                .andExpect(jsonPath("$.items[0].content").doesNotExist());
+
+        mockMvc.perform(get("/api/notes/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value(content));
+
+        mockMvc.perform(get("/api/notes/{id}", id + 1000))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("내보내기는 내 노트만 최신순으로 한 줄에 하나씩 NDJSON으로 스트리밍한다")
+    void exportStreamsOwnNotesAsNdjson() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            noteService.createNote(ownerId, "export " + i, "내용");
+        }
+        noteService.createNote(saveUser().getId(), "someone else", "내용");
+
+        MvcResult result = mockMvc.perform(get("/api/notes/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (body.lines().count() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines).extracting(line -> readJson(line).get("title").asText())
+                .containsExactly("export 2", "export 1", "export 0");
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 400을 반환한다")
+    void invalidCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/api/notes").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("검색어와 일치하는 노트를 하이라이트된 발췌와 함께 돌려준다")
+    void searchReturnsHighlightedHits() throws Exception {
+        noteService.createNote(ownerId, "염색 상담", "애쉬 브라운 염색 전 <주의> 사항을 정리했습니다.");
+        noteService.createNote(ownerId, "커트 예약", "다음 주 화요일 커트 예약");
+
+        mockMvc.perform(get("/api/notes/search").param("q", "염색"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("염색 상담"))
+                .andExpect(jsonPath("$.items[0].snippet").value(containsString("<mark>염색</mark>")))
+                .andExpect(jsonPath("$.items[0].snippet").value(containsString("&lt;주의&gt;")));
+    }
+
+    @Test
+    @DisplayName("일괄 등록은 유효한 항목만 저장하고 항목별 결과를 돌려준다")
+    void batchCreateReportsPerItemResults() throws Exception {
+        List<NoteController.CreateNoteRequest> requests = List.of(
+                new NoteController.CreateNoteRequest("첫 번째", "내용"),
+                new NoteController.CreateNoteRequest("", "제목 없음"),
+                new NoteController.CreateNoteRequest("세 번째", "내용"));
+
+        mockMvc.perform(post("/api/notes/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[2].id").isNumber());
+
+        assertThat(noteRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("목록이 바뀌지 않았으면 If-None-Match에 304로 응답하고, 노트가 추가되면 다시 200을 돌려준다")
+    void conditionalGetReturnsNotModifiedUntilNotesChange() throws Exception {
+        noteService.createNote(ownerId, "제목", "내용");
+        String etag = mockMvc.perform(get("/api/notes"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/notes").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        noteService.createNote(ownerId, "새 제목", "새 내용");
+        mockMvc.perform(get("/api/notes").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 저장된 노트는 최근 노트 캐시가 다시 읽힐 때 새 ETag와 함께 본문에 나온다")
+    void conditionalGetSeesNotesSavedElsewhere() throws Exception {
+        noteService.createNote(ownerId, "제목", "내용");
+        String etag = mockMvc.perform(get("/api/notes"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // 다른 인스턴스가 저장한 것처럼 이 인스턴스의 이벤트 없이 바로 저장한다
+        noteRepository.save(Note.builder()
+                .owner(userRepository.getReferenceById(ownerId))
+                .title("다른 인스턴스")
+                .content("내용")
+                .build());
+
+        // 캐시 ttl 안에는 예전 본문과 예전 ETag가 짝을 이룬다
+        mockMvc.perform(get("/api/notes").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // ttl이 지나 스냅샷을 다시 읽으면 새 노트가 본문과 ETag에 함께 반영된다
+        recentNotesCache.invalidate(ownerId);
+        MvcResult refreshed = mockMvc.perform(get("/api/notes").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("다른 인스턴스"))
+                .andReturn();
+        String changed = refreshed.getResponse().getHeader("ETag");
+        assertThat(changed).isNotEqualTo(etag);
+
+        mockMvc.perform(get("/api/notes").header("If-None-Match", changed))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 If-None-Match와 상관없이 400으로 거절한다")
+    void rejectsInvalidCursorBeforeConditionalCheck() throws Exception {
+        mockMvc.perform(get("/api/notes").param("cursor", "not-a-cursor").header("If-None-Match", "*"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 노트는 목록, 검색, 단건 조회 어디에도 나오지 않는다")
+    void notesAreScopedToOwner() throws Exception {
+        Long otherNoteId = noteService.createNote(saveUser().getId(), "남의 염색 기록", "다른 고객").getId();
+        noteService.createNote(ownerId, "내 염색 기록", "내 고객");
+
+        mockMvc.perform(get("/api/notes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("내 염색 기록"));
+        mockMvc.perform(get("/api/notes/search").param("q", "염색"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1));
+        mockMvc.perform(get("/api/notes/{id}", otherNoteId))
+                .andExpect(status().isNotFound());
+    }
+
+    private User saveUser() {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .displayName("노트 주인")
+                .provider(AuthProvider.LOCAL)
+                .build());
+    }
+
+    private JsonNode readJson(String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+}
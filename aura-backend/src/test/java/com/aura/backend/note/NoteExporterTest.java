@@ -0,0 +1,63 @@
+package com.aura.backend.note;
+
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NoteExporterTest {
+
+    private final NoteRepository noteRepository = mock(NoteRepository.class);
+    private final CountDownLatch started = new CountDownLatch(2);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final NoteExporter exporter = new NoteExporter(noteRepository, mock(EntityManager.class),
+            mock(PlatformTransactionManager.class), 2, Duration.ofMinutes(1));
+
+    @AfterEach
+    void shutDown() {
+        release.countDown();
+        exporter.destroy();
+    }
+
+    @Test
+    @DisplayName("maxConcurrent건이 진행 중이면 대기열에 넣지 않고 바로 503을 돌려주고, 끝나면 다시 받는다")
+    void rejectsBeyondMaxConcurrentWithoutQueueing() throws Exception {
+        when(noteRepository.streamByOwnerIdOrderByCreatedAtDescIdDesc(1L)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Stream.empty();
+        });
+
+        exporter.export(1L);
+        exporter.export(1L);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> exporter.export(1L))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            try {
+                exporter.export(1L);
+                break;
+            } catch (ResponseStatusException e) {
+                assertThat(System.nanoTime()).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+        }
+    }
+}
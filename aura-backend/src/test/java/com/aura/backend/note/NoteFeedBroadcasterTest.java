@@ -0,0 +1,68 @@
+package com.aura.backend.note;
+
+import com.aura.backend.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoteFeedBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ThreadPoolExecutor senders = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+    private final NoteFeedBroadcaster broadcaster = new NoteFeedBroadcaster(
+            new NoteStreamProperties(10, 2, 16, Duration.ofHours(1), Duration.ofMinutes(30)), meterRegistry, senders);
+
+    @AfterEach
+    void shutDown() {
+        release.countDown();
+        broadcaster.destroy();
+    }
+
+    @Test
+    @DisplayName("대기열이 넘친 느린 구독자만 끊고, 연결 종료는 커밋 스레드가 아닌 전송 스레드에 맡긴다")
+    void evictsSlowSubscriberWithoutCompletingOnCommitThread() {
+        // 전송 스레드를 붙잡아 두어 구독자 대기열이 비워지지 않게 한다
+        senders.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        broadcaster.subscribe(1L, null);
+        broadcaster.subscribe(2L, null);
+        assertThat(subscribers()).isEqualTo(2);
+
+        // 구독자 1의 대기열(크기 2)에는 ready가 이미 들어 있으므로 두 번째 노트에서 넘친다
+        broadcaster.onNotesCreated(new NotesCreatedEvent(List.of(note(1, 1L), note(2, 1L))));
+
+        assertThat(meterRegistry.counter("aura.notes.stream.evicted").count()).isEqualTo(1);
+        assertThat(subscribers()).isEqualTo(1);
+        // 두 구독자의 전송 작업과 느린 구독자의 종료 작업
+        assertThat(senders.getQueue()).hasSize(3);
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("aura.notes.stream.subscribers").gauge().value();
+    }
+
+    private static Note note(long id, Long ownerId) {
+        return Note.builder()
+                .id(id)
+                .owner(User.builder().id(ownerId).build())
+                .title("노트 " + id)
+                .content("내용")
+                .createdAt(LocalDateTime.of(2026, 1, 1, 9, 0).plusMinutes(id))
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.aura.backend.note;
+
+import com.aura.backend.security.UserPrincipal;
+import com.aura.backend.user.AuthProvider;
+import com.aura.backend.user.User;
+import com.aura.backend.user.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class NoteFeedStreamTest {
+
+    private static final Pattern READY_ID = Pattern.compile("id:(\\S+)\\nevent:ready");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserPrincipal owner;
+    private UserPrincipal other;
+
+    @BeforeEach
+    void setUp() {
+        noteRepository.deleteAll();
+        owner = new UserPrincipal(saveUser());
+        other = new UserPrincipal(saveUser());
+    }
+
+    @AfterEach
+    void clean() {
+        noteRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("새 노트는 소유자의 모든 연결에 전달되고 다른 사용자의 연결에는 가지 않는다")
+    void fansOutToOwnerSubscribersOnly() throws Exception {
+        MvcResult first = subscribe(owner, null);
+        MvcResult second = subscribe(owner, null);
+        MvcResult stranger = subscribe(other, null);
+        awaitContent(stranger, content -> content.contains("event:ready"));
+
+        noteService.createNote(owner.getId(), "fan-out note", "content");
+
+        assertThat(awaitContent(first, content -> content.contains("fan-out note"))).contains("event:note");
+        assertThat(awaitContent(second, content -> content.contains("fan-out note"))).contains("event:note");
+        assertThat(content(stranger)).doesNotContain("fan-out note");
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID로 다시 연결하면 끊긴 뒤에 저장된 노트를 이어 받고, 알 수 없는 id면 reset을 받는다")
+    void replaysMissedEventsAfterLastEventId() throws Exception {
+        MvcResult initial = subscribe(owner, null);
+        Matcher ready = READY_ID.matcher(awaitContent(initial, content -> READY_ID.matcher(content).find()));
+        assertThat(ready.find()).isTrue();
+        String lastEventId = ready.group(1);
+
+        noteService.createNote(owner.getId(), "missed one", "content");
+        noteService.createNote(other.getId(), "not mine", "content");
+        noteService.createNote(owner.getId(), "missed two", "content");
+
+        String replayed = awaitContent(subscribe(owner, lastEventId), content -> content.contains("missed two"));
+        assertThat(replayed).contains("missed one").doesNotContain("not mine");
+        assertThat(replayed.indexOf("missed one")).isLessThan(replayed.indexOf("missed two"));
+
+        String reset = awaitContent(subscribe(owner, "unknown-1"), content -> content.contains("event:reset"));
+        assertThat(reset).doesNotContain("missed one");
+    }
+
+    private MvcResult subscribe(UserPrincipal principal, String lastEventId) throws Exception {
+        MockHttpServletRequestBuilder stream = get("/api/notes/stream").with(user(principal));
+        if (lastEventId != null) {
+            stream.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(stream)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static String awaitContent(MvcResult result, Predicate<String> condition) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String content = content(result);
+        while (!condition.test(content) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = content(result);
+        }
+        assertThat(condition.test(content)).as("stream content: %s", content).isTrue();
+        return content;
+    }
+
+    private static String content(MvcResult result) throws Exception {
+        return result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private User saveUser() {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .displayName("구독자")
+                .provider(AuthProvider.LOCAL)
+                .build());
+    }
+}
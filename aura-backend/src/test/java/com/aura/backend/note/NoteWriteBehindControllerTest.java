@@ -0,0 +1,82 @@
+package com.aura.backend.note;
+
+import com.aura.backend.security.UserPrincipal;
+import com.aura.backend.user.AuthProvider;
+import com.aura.backend.user.User;
+import com.aura.backend.user.UserRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.test.context.TestSecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "aura.notes.write-behind.enabled=true")
+@AutoConfigureMockMvc
+class NoteWriteBehindControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void signIn() {
+        noteRepository.deleteAll();
+        User owner = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .displayName("노트 주인")
+                .provider(AuthProvider.LOCAL)
+                .build());
+        UserPrincipal principal = new UserPrincipal(owner);
+        TestSecurityContextHolder.setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void clean() {
+        noteRepository.deleteAll();
+        TestSecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("write-behind가 켜져 있으면 202와 임시 id로 응답하고, 노트는 곧 저장된다")
+    void acceptsNoteAndSavesItLater() throws Exception {
+        mockMvc.perform(post("/api/notes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"나중에 저장\",\"content\":\"내용\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.provisionalId").isNotEmpty())
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (noteRepository.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(noteRepository.findAll()).extracting(Note::getTitle).containsExactly("나중에 저장");
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 노트는 대기열에 넣지 않고 400을 돌려준다")
+    void rejectsInvalidNoteBeforeQueueing() throws Exception {
+        mockMvc.perform(post("/api/notes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\" \",\"content\":\"내용\"}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,123 @@
+package com.aura.backend.note;
+
+import com.aura.backend.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NoteWriteBehindQueueTest {
+
+    private final NoteRepository noteRepository = mock(NoteRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch saving = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> saved = Collections.synchronizedList(new ArrayList<>());
+
+    private NoteWriteBehindQueue queue;
+
+    @BeforeEach
+    void blockFirstSave() {
+        // 첫 저장은 release까지 붙잡아 두어 그동안 대기열에 노트가 쌓이게 한다
+        when(noteRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Note> notes = invocation.getArgument(0);
+            saving.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            if (notes.stream().anyMatch(note -> note.getTitle().equals("bad"))) {
+                throw new IllegalStateException("제약 위반");
+            }
+            notes.forEach(note -> saved.add(note.getTitle()));
+            return notes;
+        });
+    }
+
+    @AfterEach
+    void shutDown() {
+        release.countDown();
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 offerTimeout만큼 기다린 뒤 503으로 거절한다")
+    void rejectsWhenQueueIsFull() throws Exception {
+        queue = start(1, 3);
+        queue.enqueue(1L, "first", "내용");
+        assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+        queue.enqueue(1L, "second", "내용");
+
+        assertThatThrownBy(() -> queue.enqueue(1L, "third", "내용"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(meterRegistry.counter("aura.notes.writebehind.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("stop은 새 노트를 거절하고, 이미 접수된 노트를 모두 저장한 뒤에 callback을 부른다")
+    void drainsQueueOnStop() throws Exception {
+        queue = start(100, 3);
+        queue.enqueue(1L, "first", "내용");
+        assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue(1L, "queued " + i, "내용");
+        }
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        queue.stop(stopped::countDown);
+        assertThatThrownBy(() -> queue.enqueue(1L, "late", "내용"))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(stopped.getCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(saved).containsExactly("first", "queued 0", "queued 1", "queued 2", "queued 3", "queued 4");
+        assertThat(queue.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("배치 저장이 끝내 실패하면 한 건씩 다시 저장해서 실패한 노트만 버린다")
+    void fallsBackToSingleSavesAfterBatchFailure() throws Exception {
+        queue = start(100, 1);
+        queue.enqueue(1L, "first", "내용");
+        assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+        queue.enqueue(1L, "a", "내용");
+        queue.enqueue(1L, "bad", "내용");
+        queue.enqueue(1L, "c", "내용");
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        queue.stop(stopped::countDown);
+        release.countDown();
+        assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(saved).containsExactly("first", "a", "c");
+        assertThat(meterRegistry.counter("aura.notes.writebehind.dropped").count()).isEqualTo(1);
+    }
+
+    private NoteWriteBehindQueue start(int capacity, int maxAttempts) {
+        NoteWriteBehindQueue started = new NoteWriteBehindQueue(noteRepository, mock(UserRepository.class),
+                mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class),
+                new NoteWriteBehindProperties(true, capacity, 10, Duration.ofMillis(20), Duration.ofMillis(20),
+                        maxAttempts),
+                meterRegistry);
+        started.start();
+        return started;
+    }
+}
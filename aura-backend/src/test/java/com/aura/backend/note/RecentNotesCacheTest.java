@@ -0,0 +1,91 @@
+package com.aura.backend.note;
+
+import com.aura.backend.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecentNotesCacheTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private final NoteRepository noteRepository = mock(NoteRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecentNotesCache cache = new RecentNotesCache(noteRepository,
+            new RecentNotesCacheProperties(true, 10, 1000, Duration.ofMinutes(1), 0), transactionManager, meterRegistry);
+
+    @Test
+    @DisplayName("첫 페이지에서 한 번 읽은 뒤로는 스냅샷 범위 안의 페이지와 새 노트를 DB 없이 돌려준다")
+    void servesPagesFromSnapshotAndMergesCreatedNotes() {
+        when(noteRepository.findSummaries(eq(OWNER_ID), any(Limit.class))).thenReturn(summaries(5, 1));
+
+        NoteService.NotePage first = cache.page(OWNER_ID, null, 3);
+        assertThat(first.notes()).extracting(NoteSummary::id).containsExactly(5L, 4L, 3L);
+
+        NoteService.NotePage last = cache.page(OWNER_ID, first.nextCursor(), 3);
+        assertThat(last.notes()).extracting(NoteSummary::id).containsExactly(2L, 1L);
+        assertThat(last.nextCursor()).isNull();
+
+        Note created = Note.builder()
+                .id(6L)
+                .owner(User.builder().id(OWNER_ID).build())
+                .title("새 노트")
+                .content("내용")
+                .createdAt(BASE.plusMinutes(6))
+                .build();
+        cache.onNotesCreated(new NotesCreatedEvent(List.of(created)));
+        cache.onNotesCreated(new NotesCreatedEvent(List.of(created)));
+
+        assertThat(cache.page(OWNER_ID, null, 3).notes()).extracting(NoteSummary::id).containsExactly(6L, 5L, 4L);
+        verify(noteRepository, times(1)).findSummaries(eq(OWNER_ID), any(Limit.class));
+        assertThat(meterRegistry.counter("aura.notes.recent.pages", "result", "hit").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스냅샷보다 오래된 페이지는 저장소로 넘긴다")
+    void fallsThroughPastSnapshotDepth() {
+        when(noteRepository.findSummaries(eq(OWNER_ID), any(Limit.class))).thenReturn(summaries(30, 20));
+
+        NoteService.NotePage first = cache.page(OWNER_ID, null, 5);
+        NoteService.NotePage second = cache.page(OWNER_ID, first.nextCursor(), 5);
+        assertThat(second).isNull();
+    }
+
+    @Test
+    @DisplayName("스냅샷은 readOnly가 아닌 트랜잭션에서 읽어 복제본이 아닌 primary로 간다")
+    void loadsSnapshotOutsideReadOnlyTransaction() {
+        when(noteRepository.findSummaries(eq(OWNER_ID), any(Limit.class))).thenReturn(summaries(3, 1));
+
+        cache.page(OWNER_ID, null, 3);
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isFalse();
+    }
+
+    private static List<NoteSummary> summaries(long newestId, long oldestId) {
+        List<NoteSummary> notes = new ArrayList<>();
+        for (long id = newestId; id >= oldestId; id--) {
+            notes.add(new NoteSummary(id, "제목 " + id, "내용", BASE.plusMinutes(id)));
+        }
+        return notes;
+    }
+}
@@ -0,0 +1,110 @@
+package com.aura.backend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void shutDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    @DisplayName("해싱 스레드와 대기열이 모두 차 있으면 기다리지 않고 503으로 거절한다")
+    void rejectsWhenPoolIsSaturated() throws Exception {
+        encoder = encoder(Duration.ofSeconds(5));
+        // 하나는 해싱 스레드를, 하나는 대기열(크기 1)을 차지한다
+        callers.submit(() -> encoder.encode(blockingPassword()));
+        callers.submit(() -> encoder.encode(blockingPassword()));
+        awaitGauge("aura.password.hash.active", 1);
+        awaitGauge("aura.password.hash.queued", 1);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> encoder.matches("password", "$2a$04$invalid"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(meterRegistry.counter("aura.password.hash.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기와 계산을 합쳐 timeout을 넘기면 작업을 취소하고 503을 돌려준다")
+    void timesOutSlowHashing() {
+        encoder = encoder(Duration.ofMillis(200));
+
+        assertThatThrownBy(() -> encoder.encode(blockingPassword()))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(meterRegistry.counter("aura.password.hash.timeout").count()).isEqualTo(1);
+
+        // 취소된 작업이 스레드를 돌려주면 다음 요청은 정상 처리된다
+        String hash = encoder.encode("password");
+        assertThat(encoder.matches("password", hash)).isTrue();
+    }
+
+    private BoundedPasswordEncoder encoder(Duration timeout) {
+        return new BoundedPasswordEncoder(new PasswordHashingProperties(4, 1, 1, timeout), meterRegistry);
+    }
+
+    /**
+     * BCrypt가 해싱 스레드에서 toString()을 부를 때 release까지 붙잡아 둔다.
+     */
+    private CharSequence blockingPassword() {
+        return new CharSequence() {
+            @Override
+            public int length() {
+                return toString().length();
+            }
+
+            @Override
+            public char charAt(int index) {
+                return toString().charAt(index);
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                return toString().subSequence(start, end);
+            }
+
+            @Override
+            public String toString() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "password";
+            }
+        };
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(name).gauge().value() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.get(name).gauge().value()).isEqualTo(expected);
+    }
+}
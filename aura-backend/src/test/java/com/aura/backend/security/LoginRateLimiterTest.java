@@ -0,0 +1,83 @@
+package com.aura.backend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginRateLimiter limiter = new LoginRateLimiter(new LoginRateLimitProperties(
+            true,
+            new LoginRateLimitProperties.Bucket(10, Duration.ofSeconds(1)),
+            new LoginRateLimitProperties.Bucket(3, Duration.ofMinutes(1)),
+            new LoginRateLimitProperties.Bucket(6, Duration.ofMinutes(1)),
+            1000,
+            Duration.ofMinutes(10)), meterRegistry, nanos::get);
+
+    @Test
+    @DisplayName("한 IP에서 계정 한도를 넘으면 회복까지 남은 시간을 Retry-After로 알려준다")
+    void throttlesAccountAfterBurst() {
+        for (int i = 0; i < 3; i++) {
+            limiter.check("10.0.0.1", "Member@Example.com");
+        }
+
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", "member@example.com "))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(60));
+        assertThat(meterRegistry.counter("aura.auth.throttled", "scope", "account-ip").count()).isEqualTo(1);
+
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertThatCode(() -> limiter.check("10.0.0.1", "member@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("다른 IP에서 남의 계정 한도를 다 써도 계정 주인의 IP에서는 로그인할 수 있다")
+    void accountThrottleDoesNotLockOutOtherIps() {
+        for (int i = 0; i < 5; i++) {
+            try {
+                limiter.check("203.0.113.7", "victim@example.com");
+            } catch (TooManyRequestsException ignored) {
+                // 공격자 IP만 막힌다
+            }
+        }
+
+        assertThatCode(() -> limiter.check("198.51.100.2", "victim@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("IP 한도에 걸린 시도는 계정 한도를 소모하지 않는다")
+    void ipThrottleDoesNotConsumeAccountBudget() {
+        for (int i = 0; i < 10; i++) {
+            limiter.check("10.0.0.1", "user" + i + "@example.com");
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> limiter.check("10.0.0.1", "victim@example.com"))
+                    .isInstanceOf(TooManyRequestsException.class);
+        }
+        for (int i = 0; i < 3; i++) {
+            limiter.check("10.0.0.2", "victim@example.com");
+        }
+        assertThat(meterRegistry.counter("aura.auth.throttled", "scope", "ip").count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("여러 IP에 나눠 한 계정을 노리면 이메일 전체 한도에 걸린다")
+    void throttlesAccountAcrossIps() {
+        for (int i = 0; i < 6; i++) {
+            limiter.check("10.0.1." + i, "target@example.com");
+        }
+
+        assertThatThrownBy(() -> limiter.check("10.0.1.99", "target@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.counter("aura.auth.throttled", "scope", "account").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,81 @@
+package com.aura.backend.security;
+
+import com.aura.backend.user.AuthProvider;
+import com.aura.backend.user.User;
+import com.aura.backend.user.UserChangedEvent;
+import com.aura.backend.user.UserRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserDetailsCacheTest {
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private User user;
+
+    @BeforeEach
+    void saveUser() {
+        user = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .displayName("처음 이름")
+                .password("old-hash")
+                .provider(AuthProvider.LOCAL)
+                .build());
+    }
+
+    @AfterEach
+    void deleteUser() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("JPA로 사용자를 바꾸면 커밋 이후 캐시가 무효화되어 다음 조회에 새 값이 보인다")
+    void invalidatesOnEntityUpdate() {
+        assertThat(load().getPassword()).isEqualTo("old-hash");
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().changePassword("new-hash"));
+
+        assertThat(load().getPassword()).isEqualTo("new-hash");
+    }
+
+    @Test
+    @DisplayName("엔티티를 거치지 않은 변경은 UserChangedEvent를 발행하기 전까지 캐시에 반영되지 않는다")
+    void bulkUpdateNeedsExplicitEvent() {
+        assertThat(load().getDisplayName()).isEqualTo("처음 이름");
+
+        jdbcTemplate.update("update users set display_name = ? where id = ?", "바뀐 이름", user.getId());
+        assertThat(load().getDisplayName()).isEqualTo("처음 이름");
+
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
+        assertThat(load().getDisplayName()).isEqualTo("바뀐 이름");
+    }
+
+    private UserPrincipal load() {
+        return (UserPrincipal) userDetailsService.loadUserByUsername(user.getEmail());
+    }
+}
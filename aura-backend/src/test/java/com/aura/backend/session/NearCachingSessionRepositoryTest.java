@@ -0,0 +1,178 @@
+package com.aura.backend.session;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.session.MapSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearCachingSessionRepositoryTest {
+
+    private final RecordingStore store = new RecordingStore();
+    private final NearCachingSessionRepository repository = new NearCachingSessionRepository(store,
+            new SessionStoreProperties("jdbc", Duration.ofMinutes(30), Duration.ofMinutes(1), 100,
+                    Duration.ofHours(1), Duration.ofHours(1), 100));
+
+    @AfterEach
+    void shutDown() {
+        repository.destroy();
+    }
+
+    @Test
+    @DisplayName("캐시된 세션은 저장소를 다시 읽지 않고, 접근 시각만 바뀐 저장은 모아서 한 번에 쓴다")
+    void servesFromNearCacheAndDefersLastAccessWrites() {
+        NearCachingSessionRepository.CachedSession created = repository.createSession();
+        created.setAttribute("user", "member@example.com");
+        repository.save(created);
+        assertThat(store.saves).isEqualTo(1);
+
+        for (int i = 0; i < 5; i++) {
+            NearCachingSessionRepository.CachedSession session = repository.findById(created.getId());
+            assertThat(session.<String>getAttribute("user")).isEqualTo("member@example.com");
+            session.setLastAccessedTime(Instant.now());
+            repository.save(session);
+        }
+
+        assertThat(store.loads).isZero();
+        assertThat(store.saves).isEqualTo(1);
+        assertThat(store.touches).isEmpty();
+
+        repository.destroy();
+        assertThat(store.touches).extracting(SessionStore.Touch::id).containsExactly(created.getId());
+    }
+
+    @Test
+    @DisplayName("세션 id가 바뀌면 새 id로 저장하고 이전 id는 지운다")
+    void changedSessionIdReplacesPreviousRow() {
+        NearCachingSessionRepository.CachedSession created = repository.createSession();
+        repository.save(created);
+        String previousId = created.getId();
+
+        NearCachingSessionRepository.CachedSession session = repository.findById(previousId);
+        session.changeSessionId();
+        repository.save(session);
+
+        assertThat(store.sessions).containsOnlyKeys(session.getId());
+        assertThat(repository.findById(previousId)).isNull();
+    }
+
+    @Test
+    @DisplayName("계속 쓰이는 세션도 near-cache-ttl이 지나면 저장소에서 다시 읽어 다른 인스턴스의 로그아웃을 반영한다")
+    void deleteOnOtherNodeIsSeenAfterNearCacheTtl() {
+        FakeTicker ticker = new FakeTicker();
+        SessionStoreProperties properties = new SessionStoreProperties("jdbc", Duration.ofMinutes(30),
+                Duration.ofSeconds(5), 100, Duration.ofHours(1), Duration.ofHours(1), 100);
+        NearCachingSessionRepository nodeA = new NearCachingSessionRepository(store, properties, ticker);
+        NearCachingSessionRepository nodeB = new NearCachingSessionRepository(store, properties, ticker);
+        try {
+            NearCachingSessionRepository.CachedSession created = nodeA.createSession();
+            created.setAttribute("user", "member@example.com");
+            nodeA.save(created);
+            String id = created.getId();
+            assertThat(nodeB.findById(id)).isNotNull();
+
+            nodeA.deleteById(id);
+
+            // TTL보다 촘촘하게 접근 시각만 바뀐 저장을 반복해도 만료 시각이 늦춰지지 않는다
+            for (int i = 0; i < 10; i++) {
+                NearCachingSessionRepository.CachedSession session = nodeB.findById(id);
+                if (session == null) {
+                    break;
+                }
+                session.setLastAccessedTime(Instant.now());
+                nodeB.save(session);
+                ticker.advance(Duration.ofSeconds(1));
+            }
+            ticker.advance(Duration.ofSeconds(5));
+
+            assertThat(nodeB.findById(id)).isNull();
+        } finally {
+            nodeA.destroy();
+            nodeB.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("만료돼 보이는 세션은 저장소의 최신 값으로 다시 판단하고, 만료됐어도 저장소에서 지우지 않는다")
+    void expiredLookupRechecksStoreWithoutDeleting() {
+        NearCachingSessionRepository.CachedSession created = repository.createSession();
+        created.setLastAccessedTime(Instant.now().minus(Duration.ofHours(1)));
+        repository.save(created);
+        String id = created.getId();
+
+        // 다른 인스턴스가 그사이 이 세션에 접근해 접근 시각을 저장소에 썼다
+        MapSession touched = new MapSession(store.sessions.get(id));
+        touched.setLastAccessedTime(Instant.now());
+        store.sessions.put(id, touched);
+        assertThat(repository.findById(id)).isNotNull();
+
+        MapSession expired = new MapSession();
+        expired.setLastAccessedTime(Instant.now().minus(Duration.ofHours(1)));
+        store.sessions.put(expired.getId(), expired);
+        assertThat(repository.findById(expired.getId())).isNull();
+        assertThat(store.sessions).containsKey(expired.getId());
+    }
+
+    private static final class FakeTicker implements Ticker {
+
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
+
+    private static final class RecordingStore implements SessionStore {
+
+        private final Map<String, MapSession> sessions = new HashMap<>();
+        private final List<Touch> touches = new ArrayList<>();
+        private int loads;
+        private int saves;
+
+        @Override
+        public MapSession load(String id) {
+            loads++;
+            MapSession session = sessions.get(id);
+            return session == null ? null : new MapSession(session);
+        }
+
+        @Override
+        public void save(MapSession session, String previousId) {
+            saves++;
+            sessions.put(session.getId(), new MapSession(session));
+            if (previousId != null) {
+                sessions.remove(previousId);
+            }
+        }
+
+        @Override
+        public void touch(Collection<Touch> batch) {
+            touches.addAll(batch);
+        }
+
+        @Override
+        public void delete(String id) {
+            sessions.remove(id);
+        }
+
+        @Override
+        public int deleteExpired(Instant before, int limit) {
+            return 0;
+        }
+    }
+}
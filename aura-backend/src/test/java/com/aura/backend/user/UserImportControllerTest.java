@@ -0,0 +1,95 @@
+package com.aura.backend.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void clean() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("CSV 일괄 등록은 새 이메일만 넣고 중복과 잘못된 행은 건너뛴다")
+    void importsCsvAndCountsSkippedAndRejectedRows() throws Exception {
+        String csv = """
+                email,password,displayName
+                first@example.com,password123,첫 번째
+                second@example.com,"pass,""word""\","두 번째, 쉼표 포함"
+                first@example.com,password123,중복
+                not-an-email,password123,잘못된 행
+                """;
+
+        mockMvc.perform(post("/api/admin/users/import")
+                        .with(user("admin").roles("ADMIN"))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(4))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.skipped").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(5));
+
+        assertThat(userRepository.findByEmail("second@example.com"))
+                .hasValueSatisfying(user -> {
+                    assertThat(user.getDisplayName()).isEqualTo("두 번째, 쉼표 포함");
+                    assertThat(passwordEncoder.matches("pass,\"word\"", user.getPassword())).isTrue();
+                });
+    }
+
+    @Test
+    @DisplayName("따옴표 없이 쉼표가 더 들어간 행은 어느 값에 속하는지 알 수 없으므로 거절한다")
+    void rejectsAmbiguousCsvRows() throws Exception {
+        String csv = """
+                third@example.com,pass,word123,세 번째
+                fourth@example.com,"password123,네 번째
+                """;
+
+        mockMvc.perform(post("/api/admin/users/import")
+                        .with(user("admin").roles("ADMIN"))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(0))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(1))
+                .andExpect(jsonPath("$.errors[1].line").value(2));
+        assertThat(userRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 일괄 등록할 수 없다")
+    void importRequiresAdmin() throws Exception {
+        mockMvc.perform(post("/api/admin/users/import")
+                        .with(user("member").roles("USER"))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"email\":\"a@example.com\",\"password\":\"password123\",\"displayName\":\"a\"}\n"))
+                .andExpect(status().isForbidden());
+    }
+}